@@ -6,6 +6,9 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import com.app_eventos.services.Servicio;
+import com.app_eventos.utils.JPAUtil;
+
 public class App extends Application {
 
     @Override
@@ -27,6 +30,17 @@ public class App extends Application {
         // Establecer la escena y mostrar
         primaryStage.setScene(scene);
         primaryStage.show();
+
+        // Estados CONFIRMADO -> EJECUCIÓN -> FINALIZADO al vencer cada fecha
+        Servicio.getInstance().iniciarPlanificadorEstados();
+        Servicio.getInstance().precargarOcupacion();
+    }
+
+    @Override
+    public void stop() {
+        // Libera el pool de conexiones al cerrar la ventana
+        Servicio.getInstance().detenerPlanificadorEstados();
+        JPAUtil.close();
     }
 
     public static void main(String[] args) {
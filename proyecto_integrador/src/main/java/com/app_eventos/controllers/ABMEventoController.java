@@ -1,9 +1,10 @@
 package com.app_eventos.controllers;
 
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
@@ -15,19 +16,30 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 // Dominio
 import com.app_eventos.model.*;
 import com.app_eventos.model.enums.*;
+import com.app_eventos.repository.EventoFila;
+import com.app_eventos.repository.Pagina;
 import com.app_eventos.services.Servicio;
 // Utils
+import com.app_eventos.utils.CacheVistas;
+import com.app_eventos.utils.CargadorAsync;
 import com.app_eventos.utils.ComboBoxInicializador;
+import com.app_eventos.utils.FiltroTabla;
+import com.app_eventos.utils.PaginadorTabla;
+import com.app_eventos.utils.Refrescable;
 import com.app_eventos.utils.TimePicker;
 
-public class ABMEventoController {
+public class ABMEventoController implements Refrescable {
 
     private Servicio servicio = Servicio.getInstance();
 
@@ -40,16 +52,21 @@ public class ABMEventoController {
     @FXML private TimePicker timePickerInicio;
     @FXML private TimePicker timePickerFin;
     @FXML private Pane seccionDinamica;
-    @FXML private TableColumn<Evento, Void> colAcciones;
-
-    // Tabla 
-    @FXML private TableView<Evento> tablaEventos;
-    @FXML private TableColumn<Evento, String> colNombre;
-    @FXML private TableColumn<Evento, TipoEvento> colTipo;
-    @FXML private TableColumn<Evento, String> colFechaInicio;
-    @FXML private TableColumn<Evento, String> colFechaFin;
-    @FXML private TableColumn<Evento, EstadoEvento> colEstado;
-    @FXML private TableColumn<Evento, String> colResponsables;
+    @FXML private TableColumn<EventoFila, Void> colAcciones;
+    @FXML private Button btnAlta;
+    @FXML private Button btnModificar;
+    @FXML private Button btnBaja;
+    @FXML private Button btnGuardar;
+    @FXML private Button btnCancelar;
+
+    // Tabla (filas planas; la entidad se carga solo al editar)
+    @FXML private TableView<EventoFila> tablaEventos;
+    @FXML private TableColumn<EventoFila, String> colNombre;
+    @FXML private TableColumn<EventoFila, TipoEvento> colTipo;
+    @FXML private TableColumn<EventoFila, String> colFechaInicio;
+    @FXML private TableColumn<EventoFila, String> colFechaFin;
+    @FXML private TableColumn<EventoFila, EstadoEvento> colEstado;
+    @FXML private TableColumn<EventoFila, String> colResponsables;
 
     // Filtros
     @FXML private ComboBox<TipoEvento> comboTipoEventoFiltro;
@@ -58,15 +75,30 @@ public class ABMEventoController {
     private DatePicker dateHastaFiltro;
 
     // Estado interno
-    private final ObservableList<Evento> modeloTabla = FXCollections.observableArrayList();
+    private static final int TAMANIO_PAGINA = 100;
+    private PaginadorTabla<EventoFila> paginador;
+    // Filtros vigentes de la tabla; clave de la cache de primeras páginas
+    private record FiltroEventos(TipoEvento tipo, EstadoEvento estado, LocalDate desde, LocalDate hasta) {}
+    private FiltroTabla<FiltroEventos, EventoFila> filtros;
     private Object controladorFragmento;
+    // Un fragmento por tipo de evento, cargado la primera vez que se elige el tipo
+    private final CacheVistas fragmentos = new CacheVistas(TipoEvento.values().length);
     private Evento eventoEnEdicion;
     private boolean modoEdicion;
+    // Lecturas y escrituras de Servicio fuera del hilo de JavaFX; mientras hay una, los botones no responden
+    private final CargadorAsync async = new CargadorAsync();
+    private final BooleanProperty ocupado = new SimpleBooleanProperty(false);
 
     @FXML
     public void initialize() {
-        tablaEventos.setItems(modeloTabla);
+        paginador = new PaginadorTabla<>(tablaEventos, TAMANIO_PAGINA, this::cargarPagina);
+        // Cambios de filtro seguidos: una sola búsqueda; la primera página de cada filtro vale 30 s
+        filtros = new FiltroTabla<>("Filtros de eventos", Duration.ofMillis(300),
+                                    Duration.ofSeconds(30), this::filtrarTabla);
         tablaEventos.setPlaceholder(new Label("Sin eventos"));
+        for (Button b : List.of(btnAlta, btnModificar, btnBaja, btnGuardar, btnCancelar)) {
+            b.disableProperty().bind(ocupado);
+        }
 
         // Columnas responsivas (ancho proporcional)
         tablaEventos.widthProperty().addListener((_, _, ancho) -> {
@@ -81,27 +113,13 @@ public class ABMEventoController {
         });
 
         DateTimeFormatter fmt = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
-        colNombre.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getNombre()));
-        colTipo.setCellValueFactory(d -> new ReadOnlyObjectWrapper<>(d.getValue().getTipoEvento()));
-        colFechaInicio.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getFechaInicio().format(fmt)));
-        colFechaFin.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getFechaFin().format(fmt)));
-        colEstado.setCellValueFactory(d -> new ReadOnlyObjectWrapper<>(d.getValue().getEstado()));
-
-        // Evita problemas si roles es lazy
-        colResponsables.setCellValueFactory(d -> {
-            try {
-                var roles = d.getValue().getRoles();
-                String s = roles == null ? "" :
-                        roles.stream()
-                             .map(r -> r.getPersona().getNombre()+" "+r.getPersona().getApellido()+" ("+r.getRol().name()+")")
-                             .distinct()
-                             .reduce((a,b)->a+", "+b)
-                             .orElse("");
-                return new SimpleStringProperty(s);
-            } catch (Exception ex) {
-                return new SimpleStringProperty("");
-            }
-        });
+        colNombre.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().nombre()));
+        colTipo.setCellValueFactory(d -> new ReadOnlyObjectWrapper<>(d.getValue().tipoEvento()));
+        colFechaInicio.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().fechaInicio().format(fmt)));
+        colFechaFin.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().fechaFin().format(fmt)));
+        colEstado.setCellValueFactory(d -> new ReadOnlyObjectWrapper<>(d.getValue().estado()));
+        // Responsables ya vienen armados en la fila
+        colResponsables.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().responsables()));
 
         // Configurar valores por defecto para los TimePicker
         timePickerInicio.setValue(LocalTime.of(9, 0)); // 9:00 por defecto
@@ -141,39 +159,55 @@ public class ABMEventoController {
         if (comboTipoEventoFiltro != null) {
             comboTipoEventoFiltro.setItems(FXCollections.observableArrayList(TipoEvento.values()));
             comboTipoEventoFiltro.getSelectionModel().clearSelection();
-            comboTipoEventoFiltro.valueProperty().addListener((_,_,_)->buscarYRefrescarTabla());
+            comboTipoEventoFiltro.valueProperty().addListener((_,_,_)->filtros.cambio());
         }
         if (comboEstadoFiltro != null) {
             comboEstadoFiltro.setItems(FXCollections.observableArrayList(EstadoEvento.values()));
             comboEstadoFiltro.getSelectionModel().clearSelection();
-            comboEstadoFiltro.valueProperty().addListener((_,_,_)->buscarYRefrescarTabla());
+            comboEstadoFiltro.valueProperty().addListener((_,_,_)->filtros.cambio());
         }
-        if (dateDesdeFiltro != null)  dateDesdeFiltro.valueProperty().addListener((_,_,_)->buscarYRefrescarTabla());
-        if (dateHastaFiltro != null)  dateHastaFiltro.valueProperty().addListener((_,_,_)->buscarYRefrescarTabla());
+        if (dateDesdeFiltro != null)  dateDesdeFiltro.valueProperty().addListener((_,_,_)->filtros.cambio());
+        if (dateHastaFiltro != null)  dateHastaFiltro.valueProperty().addListener((_,_,_)->filtros.cambio());
     }
 
+    // Al volver a la vista (MainController): la tabla y, si hay un ciclo en edición, sus películas
+    @Override
+    public void refrescar() {
+        // Al navegar se descartan los pedidos pendientes (MainController): ninguno va a liberar los botones
+        ocupado.set(false);
+        buscarYRefrescarTabla();
+        if (controladorFragmento instanceof CicloCineController c) c.recargarPeliculas();
+    }
+
+    // Tras un alta, baja o modificación: sin cache y sin esperar
     private void buscarYRefrescarTabla() {
+        filtros.invalidarYBuscar();
+    }
 
-        servicio.verificarEstadosEventos();
-   
+    private void filtrarTabla() {
+        paginador.reiniciar();
+        tablaEventos.refresh();
+    }
+
+    // Siguiente página con los filtros vigentes (se leen acá, en el hilo de JavaFX)
+    private Supplier<Pagina<EventoFila>> cargarPagina(EventoFila ultimo, int tamanio) {
         LocalDate desde = (dateDesdeFiltro != null) ? dateDesdeFiltro.getValue() : null;
         LocalDate hasta = (dateHastaFiltro != null) ? dateHastaFiltro.getValue() : null;
-        
         TipoEvento tipo = (comboTipoEventoFiltro != null) ? comboTipoEventoFiltro.getValue() : null;
         EstadoEvento estado = (comboEstadoFiltro != null) ? comboEstadoFiltro.getValue() : null;
-
-        var resultados = servicio.buscarEventos(tipo, estado, desde, hasta);
-        modeloTabla.setAll(resultados);
-        tablaEventos.refresh();
+        return filtros.consulta(new FiltroEventos(tipo, estado, desde, hasta), ultimo,
+                () -> servicio.buscarFilasEventos(tipo, estado, desde, hasta, ultimo, tamanio));
     }
 
     private void agregarBotonAsignarRol() {
         colAcciones.setCellFactory(_ -> new TableCell<>() {
             private final Button btn = new Button("Asignar Rol");
+            private final BooleanProperty inhabilitado = new SimpleBooleanProperty();
             {
+                btn.disableProperty().bind(inhabilitado.or(ocupado));
                 btn.setOnAction(_ -> {
-                    Evento ev = getTableView().getItems().get(getIndex());
-                    if (ev != null) abrirModalAsignacionRoles(ev);
+                    EventoFila fila = getTableView().getItems().get(getIndex());
+                    if (fila != null) cargarEvento(fila, ABMEventoController.this::abrirModalAsignacionRoles);
                 });
             }
             @Override
@@ -183,12 +217,12 @@ public class ABMEventoController {
                     setGraphic(null);
                     return;
                 }
-                Evento ev = getTableView().getItems().get(getIndex());
-                boolean habilitado = ev != null
-                        && ev.getEstado() != EstadoEvento.EJECUCIÓN
-                        && ev.getEstado() != EstadoEvento.FINALIZADO;
+                EventoFila fila = getTableView().getItems().get(getIndex());
+                boolean habilitado = fila != null
+                        && fila.estado() != EstadoEvento.EJECUCIÓN
+                        && fila.estado() != EstadoEvento.FINALIZADO;
 
-                btn.setDisable(!habilitado);
+                inhabilitado.set(!habilitado);
                 setGraphic(btn);
             }
         });
@@ -228,10 +262,10 @@ public class ABMEventoController {
             case CICLO_CINE -> "/fxml/abm/abmEventoResources/cicloCine.fxml";
         };
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxml));
-            Node n = loader.load();
-            controladorFragmento = loader.getController();
-            seccionDinamica.getChildren().add(n);
+            // Reutilizado vuelve a los valores de un alta (Refrescable); la edición los pisa después
+            CacheVistas.Vista v = fragmentos.mostrar(fxml);
+            controladorFragmento = v.controlador();
+            seccionDinamica.getChildren().add(v.raiz());
         } catch (IOException e) {
             e.printStackTrace();
             mostrarAlerta("Error", "No se pudo cargar el formulario específico.");
@@ -284,15 +318,17 @@ public class ABMEventoController {
                 throw new IllegalArgumentException("Seleccione un tipo de evento.");
             }
 
+            // El formulario se lee acá; solo la llamada a Servicio va en segundo plano
+            Runnable guardar;
             if (!modoEdicion) {
-                crearSegunTipo(
+                guardar = crearSegunTipo(
                     txtNombre.getText(), tipo,
                     dateInicio.getValue(), dateFin.getValue(),
                     timePickerInicio.getValue(), timePickerFin.getValue(),
                     comboEstado.getValue()
                 );
             } else {
-                actualizarSegunTipo(
+                guardar = actualizarSegunTipo(
                     eventoEnEdicion, txtNombre.getText(), tipo,
                     dateInicio.getValue(), dateFin.getValue(),
                     timePickerInicio.getValue(), timePickerFin.getValue(),
@@ -300,101 +336,146 @@ public class ABMEventoController {
                 );
             }
 
-            buscarYRefrescarTabla();
-            cerrarModal();
+            enSegundoPlano("guardar", "Error de validación", () -> { guardar.run(); return null; }, _ -> {
+                buscarYRefrescarTabla();
+                cerrarModal();
+            });
 
         } catch (IllegalArgumentException | IllegalStateException ex) { // captura de validaciones de dominio
             mostrarAlerta("Error de validación", ex.getMessage());
         }
     }
 
-    private void crearSegunTipo(String nombre, TipoEvento tipo,
-                                LocalDate fIni, LocalDate fFin, LocalTime hIni, LocalTime hFin,
-                                EstadoEvento estado) {
+    private Runnable crearSegunTipo(String nombre, TipoEvento tipo,
+                                    LocalDate fIni, LocalDate fFin, LocalTime hIni, LocalTime hFin,
+                                    EstadoEvento estado) {
 
-        switch (tipo) {
+        return switch (tipo) {
             case FERIA -> {
                 FeriaController c = (FeriaController) controladorFragmento;
-                servicio.crearFeria(nombre, fIni, hIni, fFin, hFin, estado,
-                                    c.getCantidadStands(), c.getAmbienteSeleccionado());
+                int stands = c.getCantidadStands();
+                TipoAmbiente ambiente = c.getAmbienteSeleccionado();
+                yield () -> servicio.crearFeria(nombre, fIni, hIni, fFin, hFin, estado, stands, ambiente);
             }
             case CONCIERTO -> {
                 ConciertoController c = (ConciertoController) controladorFragmento;
-                servicio.crearConcierto(nombre, fIni, hIni, fFin, hFin, estado,
-                                        c.getTipoEntradaSeleccionada(), c.getCupoMaximo());
+                TipoEntrada entrada = c.getTipoEntradaSeleccionada();
+                int cupo = c.getCupoMaximo();
+                yield () -> servicio.crearConcierto(nombre, fIni, hIni, fFin, hFin, estado, entrada, cupo);
             }
             case EXPOSICION -> {
                 ExposicionController c = (ExposicionController) controladorFragmento;
-                servicio.crearExposicion(nombre, fIni, hIni, fFin, hFin, estado,
-                                        c.getTipoArteSeleccionado());
+                TipoArte arte = c.getTipoArteSeleccionado();
+                yield () -> servicio.crearExposicion(nombre, fIni, hIni, fFin, hFin, estado, arte);
             }
             case TALLER -> {
                 TallerController c = (TallerController) controladorFragmento;
-                servicio.crearTaller(nombre, fIni, hIni, fFin, hFin, estado,
-                                    c.getCupoMaximo(), c.getModalidadSeleccionada());
+                int cupo = c.getCupoMaximo();
+                Modalidad modalidad = c.getModalidadSeleccionada();
+                yield () -> servicio.crearTaller(nombre, fIni, hIni, fFin, hFin, estado, cupo, modalidad);
             }
             case CICLO_CINE -> {
                 CicloCineController c = (CicloCineController) controladorFragmento;
-                servicio.crearCicloCine(nombre, fIni, hIni, fFin, hFin, estado,
-                                        c.isPostCharla(), c.getCupoMaximo(), c.getPeliculasSeleccionadas());
+                boolean postCharla = c.isPostCharla();
+                int cupo = c.getCupoMaximo();
+                List<Pelicula> pelis = c.getPeliculasSeleccionadas();
+                yield () -> servicio.crearCicloCine(nombre, fIni, hIni, fFin, hFin, estado, postCharla, cupo, pelis);
             }
-        }
+        };
     }
 
-    private void actualizarSegunTipo(Evento original, String nombre, TipoEvento tipo,
-                                    LocalDate fIni, LocalDate fFin, LocalTime hIni, LocalTime hFin,
-                                    EstadoEvento estado) {
+    private Runnable actualizarSegunTipo(Evento original, String nombre, TipoEvento tipo,
+                                        LocalDate fIni, LocalDate fFin, LocalTime hIni, LocalTime hFin,
+                                        EstadoEvento estado) {
         // bloquear desde UI
         original.validarPuedeModificar();
 
         switch (tipo) {
             case FERIA -> {
                 if (controladorFragmento instanceof FeriaController c && original instanceof Feria f) {
-                    servicio.actualizarFeria(
-                        f, nombre, fIni, hIni, fFin, hFin, estado,
-                        c.getCantidadStands(), c.getAmbienteSeleccionado()
-                    );
+                    int stands = c.getCantidadStands();
+                    TipoAmbiente ambiente = c.getAmbienteSeleccionado();
+                    return () -> servicio.actualizarFeria(
+                        f, nombre, fIni, hIni, fFin, hFin, estado, stands, ambiente);
                 }
             }
             case CONCIERTO -> {
                 if (controladorFragmento instanceof ConciertoController c && original instanceof Concierto x) {
-                    servicio.actualizarConcierto(
-                        x, nombre, fIni, hIni, fFin, hFin, estado,
-                        c.getTipoEntradaSeleccionada(), c.getCupoMaximo()
-                    );
+                    TipoEntrada entrada = c.getTipoEntradaSeleccionada();
+                    int cupo = c.getCupoMaximo();
+                    return () -> servicio.actualizarConcierto(
+                        x, nombre, fIni, hIni, fFin, hFin, estado, entrada, cupo);
                 }
             }
             case EXPOSICION -> {
                 if (controladorFragmento instanceof ExposicionController c && original instanceof Exposicion x) {
-                    servicio.actualizarExposicion(
-                        x, nombre, fIni, hIni, fFin, hFin, estado,
-                        c.getTipoArteSeleccionado()
-                    );
+                    TipoArte arte = c.getTipoArteSeleccionado();
+                    return () -> servicio.actualizarExposicion(
+                        x, nombre, fIni, hIni, fFin, hFin, estado, arte);
                 }
             }
             case TALLER -> {
                 if (controladorFragmento instanceof TallerController c && original instanceof Taller x) {
-                    servicio.actualizarTaller(
-                        x, nombre, fIni, hIni, fFin, hFin, estado,
-                        c.getCupoMaximo(), c.getModalidadSeleccionada()
-                    );
+                    int cupo = c.getCupoMaximo();
+                    Modalidad modalidad = c.getModalidadSeleccionada();
+                    return () -> servicio.actualizarTaller(
+                        x, nombre, fIni, hIni, fFin, hFin, estado, cupo, modalidad);
                 }
             }
             case CICLO_CINE -> {
                 if (controladorFragmento instanceof CicloCineController c && original instanceof CicloCine x) {
-                    servicio.actualizarCicloCine(
-                        x, nombre, fIni, hIni, fFin, hFin, estado,
-                        c.isPostCharla(), c.getCupoMaximo(), c.getPeliculasSeleccionadas()
-                    );
+                    boolean postCharla = c.isPostCharla();
+                    int cupo = c.getCupoMaximo();
+                    List<Pelicula> pelis = c.getPeliculasSeleccionadas();
+                    return () -> servicio.actualizarCicloCine(
+                        x, nombre, fIni, hIni, fFin, hFin, estado, postCharla, cupo, pelis);
                 }
             }
         }
+        return () -> {};
+    }
+
+    // Llamada a Servicio en segundo plano con los botones deshabilitados hasta que termina.
+    // Si falla se avisa con ese título (las validaciones de dominio traen su mensaje)
+    private <T> void enSegundoPlano(String clave, String tituloError, Supplier<T> tarea, Consumer<T> alTerminar) {
+        ocupado.set(true);
+        async.cargar(clave, tarea, r -> {
+            ocupado.set(false);
+            alTerminar.accept(r);
+        }, ex -> {
+            ocupado.set(false);
+            String m = ex.getMessage();
+            mostrarAlerta(tituloError, (m == null || m.isBlank()) ? "No se pudo completar la operación." : m);
+        });
+    }
+
+    // Entidad completa (con roles) de una fila; si ya no existe se avisa y no se sigue
+    private void cargarEvento(EventoFila fila, Consumer<Evento> siguiente) {
+        enSegundoPlano("evento", "Error", () -> servicio.obtenerEvento(fila.idEvento()), e -> {
+            if (e == null) {
+                mostrarAlerta("Evento no disponible", "El evento fue dado de baja.");
+                buscarYRefrescarTabla();
+                return;
+            }
+            siguiente.accept(e);
+        });
     }
 
     @FXML
     private void modificarEvento() {
-        Evento e = tablaEventos.getSelectionModel().getSelectedItem();
-        if (e == null) { mostrarAlerta("Selección requerida", "Debe seleccionar un evento para modificar."); return; }
+        EventoFila fila = tablaEventos.getSelectionModel().getSelectedItem();
+        if (fila == null) { mostrarAlerta("Selección requerida", "Debe seleccionar un evento para modificar."); return; }
+        cargarEvento(fila, e -> {
+            // Ciclo: las películas se leen aparte (colección inicializada)
+            if (e instanceof CicloCine x) {
+                enSegundoPlano("evento", "Error", () -> servicio.obtenerPeliculas(x.getIdEvento()), cc -> editar(e, cc));
+            } else {
+                editar(e, null);
+            }
+        });
+    }
+
+    private void editar(Evento e, CicloCine ccDet) {
         modoEdicion = true; eventoEnEdicion = e; comboTipoEvento.setDisable(true);
         setEstadosParaEdicion();
 
@@ -412,7 +493,7 @@ public class ABMEventoController {
             case CONCIERTO -> { if (controladorFragmento instanceof ConciertoController c && e instanceof Concierto x) c.setValores(x.getTipoEntrada(), x.getCupoMaximo()); }
             case EXPOSICION -> { if (controladorFragmento instanceof ExposicionController c && e instanceof Exposicion x) c.setValores(x.getTipoArte()); }
             case TALLER -> { if (controladorFragmento instanceof TallerController c && e instanceof Taller x) c.setValores(x.getCupoMaximo(), x.getModalidad()); }
-            case CICLO_CINE -> { if (controladorFragmento instanceof CicloCineController c && e instanceof CicloCine x) { CicloCine ccDet = servicio.obtenerPeliculas(x.getIdEvento());
+            case CICLO_CINE -> { if (controladorFragmento instanceof CicloCineController c && e instanceof CicloCine x) {
                 c.setCupoMaximo(x.getCupoMaximo());
                 c.setPostCharla(x.isPostCharla());
                 // Usar la colección inicializada
@@ -423,15 +504,19 @@ public class ABMEventoController {
 
     @FXML
     private void eliminarEvento() {
-        Evento sel = tablaEventos.getSelectionModel().getSelectedItem();
-        if (sel == null) { mostrarAlerta("Selección requerida", "Debe seleccionar un evento para dar de baja."); return; }
-        Alert c = new Alert(Alert.AlertType.CONFIRMATION, "¿Está seguro que desea eliminar \""+sel.getNombre()+"\"?", ButtonType.OK, ButtonType.CANCEL);
-        c.setHeaderText(null); c.setTitle("Confirmar eliminación");
-        c.showAndWait().ifPresent(b -> {
-            if (b == ButtonType.OK) {
-                try { servicio.eliminarEvento(sel); buscarYRefrescarTabla(); tablaEventos.getSelectionModel().clearSelection(); }
-                catch (RuntimeException ex){ mostrarAlerta("No se pudo eliminar", ex.getMessage()); }
-            }
+        EventoFila fila = tablaEventos.getSelectionModel().getSelectedItem();
+        if (fila == null) { mostrarAlerta("Selección requerida", "Debe seleccionar un evento para dar de baja."); return; }
+        cargarEvento(fila, sel -> {
+            Alert c = new Alert(Alert.AlertType.CONFIRMATION, "¿Está seguro que desea eliminar \""+sel.getNombre()+"\"?", ButtonType.OK, ButtonType.CANCEL);
+            c.setHeaderText(null); c.setTitle("Confirmar eliminación");
+            c.showAndWait().ifPresent(b -> {
+                if (b == ButtonType.OK) {
+                    enSegundoPlano("eliminar", "No se pudo eliminar", () -> { servicio.eliminarEvento(sel); return null; }, _ -> {
+                        buscarYRefrescarTabla();
+                        tablaEventos.getSelectionModel().clearSelection();
+                    });
+                }
+            });
         });
     }
 
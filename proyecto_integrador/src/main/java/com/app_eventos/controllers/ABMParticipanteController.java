@@ -1,11 +1,17 @@
 package com.app_eventos.controllers;
 
-import com.app_eventos.model.Evento;
 import com.app_eventos.model.Persona;
 import com.app_eventos.model.enums.EstadoEvento;
 import com.app_eventos.model.enums.TipoEvento;
-import com.app_eventos.model.interfaces.IEventoConInscripcion;
+import com.app_eventos.repository.EventoInscribible;
+import com.app_eventos.repository.Ocupacion;
+import com.app_eventos.repository.Pagina;
+import com.app_eventos.repository.ParticipanteFila;
 import com.app_eventos.services.Servicio;
+import com.app_eventos.utils.CargadorAsync;
+import com.app_eventos.utils.FiltroTabla;
+import com.app_eventos.utils.PaginadorTabla;
+import com.app_eventos.utils.Refrescable;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -15,29 +21,32 @@ import javafx.scene.control.*;
 import javafx.scene.layout.StackPane;
 import javafx.util.StringConverter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Supplier;
 
-public class ABMParticipanteController {
+public class ABMParticipanteController implements Refrescable {
 
     // filtros superiores
-    @FXML private ComboBox<Evento> comboEventoFiltro;
+    @FXML private ComboBox<EventoInscribible> comboEventoFiltro;
     @FXML private TextField txtDNIFiltro;
     @FXML private TextField txtNombreFiltro;
 
     // tabla principal
-    @FXML private TableView<Fila> tablaParticipantes;
-    @FXML private TableColumn<Fila, String> colEvento;
-    @FXML private TableColumn<Fila, String> colNombre;
-    @FXML private TableColumn<Fila, String> colDNI;
-    @FXML private TableColumn<Fila, String> colTelefono;
-    @FXML private TableColumn<Fila, String> colEmail;
-    @FXML private TableColumn<Fila, EstadoEvento> colEstadoEvento;
+    @FXML private TableView<ParticipanteFila> tablaParticipantes;
+    @FXML private TableColumn<ParticipanteFila, String> colEvento;
+    @FXML private TableColumn<ParticipanteFila, String> colNombre;
+    @FXML private TableColumn<ParticipanteFila, String> colDNI;
+    @FXML private TableColumn<ParticipanteFila, String> colTelefono;
+    @FXML private TableColumn<ParticipanteFila, String> colEmail;
+    @FXML private TableColumn<ParticipanteFila, EstadoEvento> colEstadoEvento;
+    @FXML private Label lblTotalParticipantes;
 
     // modal alta
     @FXML private StackPane modalOverlay;
-    @FXML private ComboBox<Evento> comboEvento;
+    @FXML private ComboBox<EventoInscribible> comboEvento;
     @FXML private ComboBox<Persona> comboParticipante;
 
     // Info evento en modal
@@ -53,13 +62,24 @@ public class ABMParticipanteController {
     @FXML private Label lblEmailParticipante;
 
     private final Servicio servicio = Servicio.getInstance();
-    private final ObservableList<Fila> modeloTabla = FXCollections.observableArrayList();
+    private final CargadorAsync async = new CargadorAsync();
+
+    // Inscripciones por página; los filtros se aplican en la consulta
+    private static final int TAMANIO_PAGINA = 200;
+    private PaginadorTabla<ParticipanteFila> paginador;
+    // Filtros vigentes de la tabla; clave de la cache de primeras páginas
+    private record FiltroParticipantes(Long idEvento, String dni, String nombre) {}
+    private FiltroTabla<FiltroParticipantes, ParticipanteFila> filtros;
 
     private static final DateTimeFormatter FECHAS = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
 
     // init
     @FXML
     public void initialize() {
+        // DNI y nombre se escriben letra por letra: una búsqueda por pausa; la primera página de cada filtro vale 30 s
+        filtros = new FiltroTabla<>("Filtros de participantes", Duration.ofMillis(300),
+                                    Duration.ofSeconds(30), this::refrescarTabla);
+
         // Converters
         comboEventoFiltro.setConverter(eventoConverter());
         comboEvento.setConverter(eventoConverter());
@@ -72,10 +92,10 @@ public class ABMParticipanteController {
         comboParticipante.setItems(FXCollections.observableArrayList());
         comboParticipante.setPlaceholder(new Label("Seleccione un evento"));
 
-        // Listeners filtros
-        comboEventoFiltro.valueProperty().addListener((_,_,_)->refrescarTabla());
-        txtDNIFiltro.textProperty().addListener((_,_,_)->refrescarTabla());
-        txtNombreFiltro.textProperty().addListener((_,_,_)->refrescarTabla());
+        // Listeners filtros: mientras se escribe no se consulta; página y total salen juntos al final
+        comboEventoFiltro.valueProperty().addListener((_,_,_)->filtros.cambio());
+        txtDNIFiltro.textProperty().addListener((_,_,_)->filtros.cambio());
+        txtNombreFiltro.textProperty().addListener((_,_,_)->filtros.cambio());
 
         // Listeners modal
         comboEvento.valueProperty().addListener((_,_,b)->{
@@ -85,19 +105,19 @@ public class ABMParticipanteController {
         comboParticipante.valueProperty().addListener((_,_,b)->pintarInfoPersona(b));
 
         // Columnas
-        colEvento.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().evento().getNombre()));
+        colEvento.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().evento()));
         colNombre.setCellValueFactory(d -> new SimpleStringProperty(
-                d.getValue().persona().getApellido()+", "+d.getValue().persona().getNombre()));
-        colDNI.setCellValueFactory(d -> new SimpleStringProperty(nullSafe(d.getValue().persona().getDni())));
-        colTelefono.setCellValueFactory(d -> new SimpleStringProperty(nullSafe(d.getValue().persona().getTelefono())));
-        colEmail.setCellValueFactory(d -> new SimpleStringProperty(nullSafe(d.getValue().persona().getEmail())));
-        colEstadoEvento.setCellValueFactory(d -> new ReadOnlyObjectWrapper<>(d.getValue().evento().getEstado()));
+                d.getValue().apellido()+", "+d.getValue().nombre()));
+        colDNI.setCellValueFactory(d -> new SimpleStringProperty(nullSafe(d.getValue().dni())));
+        colTelefono.setCellValueFactory(d -> new SimpleStringProperty(nullSafe(d.getValue().telefono())));
+        colEmail.setCellValueFactory(d -> new SimpleStringProperty(nullSafe(d.getValue().email())));
+        colEstadoEvento.setCellValueFactory(d -> new ReadOnlyObjectWrapper<>(d.getValue().estadoEvento()));
 
-        tablaParticipantes.setItems(modeloTabla);
+        paginador = new PaginadorTabla<>(tablaParticipantes, TAMANIO_PAGINA, this::cargarPagina);
         modalOverlay.setVisible(false);
 
         // Tabla inicial
-        refrescarTabla();
+        filtros.buscarAhora();
     }
 
     // acciones del modal
@@ -105,7 +125,10 @@ public class ABMParticipanteController {
     @FXML
     public void mostrarModalAlta() {
         // solo eventos CONFIRMADOS y no vencidos
-        var inscribibles = servicio.obtenerEventosParaInscripcion();
+        async.cargar("inscribibles", servicio::obtenerEventosParaInscripcion, this::abrirModalAlta);
+    }
+
+    private void abrirModalAlta(ObservableList<EventoInscribible> inscribibles) {
         comboEvento.setItems(inscribibles);
 
         if (inscribibles.isEmpty()) {
@@ -116,9 +139,9 @@ public class ABMParticipanteController {
         limpiarModal(false); // no borrar items recién cargados
 
         // intentar preseleccionar el del filtro si aplica
-        Evento selFiltro = comboEventoFiltro.getValue();
-        if (selFiltro != null && esInscribibleAhora(selFiltro)) {
-            seleccionarPorId(comboEvento, selFiltro.getIdEvento());
+        EventoInscribible selFiltro = comboEventoFiltro.getValue();
+        if (selFiltro != null && selFiltro.abiertoAInscripcion(LocalDateTime.now())) {
+            seleccionarPorId(comboEvento, selFiltro.idEvento());
         } else {
             comboEvento.getSelectionModel().selectFirst();
         }
@@ -138,13 +161,13 @@ public class ABMParticipanteController {
 
     @FXML
     public void altaParticipante() {
-        Evento e = comboEvento.getValue();
+        EventoInscribible e = comboEvento.getValue();
         Persona p = comboParticipante.getValue();
         if (e == null || p == null) { alertWarn("Debe seleccionar evento y participante."); return; }
         try {
-            servicio.inscribirParticipante(e, p); // valida estado/cupo/rol
+            servicio.inscribirParticipante(e.idEvento(), p); // valida estado/cupo/rol
             cerrarModal();
-            refrescarTabla();
+            filtros.invalidarYBuscar();
         } catch (Exception ex) {
             alertErr(ex.getMessage());
         }
@@ -152,11 +175,11 @@ public class ABMParticipanteController {
 
     @FXML
     public void bajaParticipante() {
-        Fila sel = tablaParticipantes.getSelectionModel().getSelectedItem();
+        ParticipanteFila sel = tablaParticipantes.getSelectionModel().getSelectedItem();
         if (sel == null) { alertWarn("Seleccione una fila."); return; }
         try {
-            servicio.desinscribirParticipante(sel.evento(), sel.persona());
-            refrescarTabla();
+            servicio.desinscribirParticipante(sel.idEvento(), sel.idPersona());
+            filtros.invalidarYBuscar();
         } catch (Exception ex) {
             alertErr(ex.getMessage());
         }
@@ -164,34 +187,39 @@ public class ABMParticipanteController {
 
     // tabla
 
+    // Al volver a la vista (MainController): eventos del filtro y tabla releídos
+    @Override
+    public void refrescar() {
+        recargarEventosFiltro();
+        filtros.invalidarYBuscar();
+    }
+
+    // Vuelve a la primera página con los filtros actuales: una consulta de página y una de total.
+    // Solo la llama FiltroTabla, ya pasada la espera entre teclas
     private void refrescarTabla() {
-        modeloTabla.clear();
-
-        Evento filtroEvento = comboEventoFiltro.getValue();
-        String filtroDni = txtDNIFiltro.getText() == null ? "" : txtDNIFiltro.getText().trim();
-        String filtroNombre = txtNombreFiltro.getText() == null ? "" : txtNombreFiltro.getText().trim().toLowerCase();
-
-        List<Evento> baseEventos = (filtroEvento != null)
-                ? List.of(filtroEvento)
-                : eventosConCupo(); // todos los que requieren inscripción
-
-        var filas = new ArrayList<Fila>();
-        for (Evento e : baseEventos) {
-            var participantes = servicio.obtenerParticipantes(e); // consulta a BD
-            for (Persona p : participantes) {
-                boolean pasa = true;
-                if (!filtroDni.isBlank())    pasa &= p.getDni()!=null && p.getDni().contains(filtroDni);
-                if (!filtroNombre.isBlank()) pasa &= (p.getNombre()+" "+p.getApellido()).toLowerCase().contains(filtroNombre);
-                if (pasa) filas.add(new Fila(e,p));
-            }
-        }
-        modeloTabla.setAll(filas);
-        tablaParticipantes.refresh();
+        paginador.reiniciar();
+        Long idEvento = idEventoFiltro();
+        String dni = txtDNIFiltro.getText(), nombre = txtNombreFiltro.getText();
+        lblTotalParticipantes.setText("Total: ...");
+        async.cargar("total", () -> servicio.contarParticipantes(idEvento, dni, nombre),
+                     total -> lblTotalParticipantes.setText("Total: " + total));
+    }
+
+    private Supplier<Pagina<ParticipanteFila>> cargarPagina(ParticipanteFila ultima, int tamanio) {
+        Long idEvento = idEventoFiltro();
+        String dni = txtDNIFiltro.getText(), nombre = txtNombreFiltro.getText();
+        return filtros.consulta(new FiltroParticipantes(idEvento, dni, nombre), ultima,
+                () -> servicio.buscarParticipantes(idEvento, dni, nombre, ultima, tamanio));
+    }
+
+    private Long idEventoFiltro() {
+        EventoInscribible e = comboEventoFiltro.getValue();
+        return e == null ? null : e.idEvento();
     }
 
     // helpers modal
 
-    private void pintarInfoEvento(Evento e) {
+    private void pintarInfoEvento(EventoInscribible e) {
         if (e == null) {
             lblEstadoEvento.setText("Estado: -");
             lblTipoEvento.setText("Tipo: -");
@@ -199,18 +227,17 @@ public class ABMParticipanteController {
             lblFechaEvento.setText("Fecha: -");
             return;
         }
-        lblEstadoEvento.setText("Estado: " + e.getEstado());
-        lblTipoEvento.setText("Tipo: " + tipoToLabel(e.getTipoEvento()));
+        lblEstadoEvento.setText("Estado: " + e.estado());
+        lblTipoEvento.setText("Tipo: " + tipoToLabel(e.tipoEvento()));
 
-        int inscriptos = servicio.obtenerParticipantes(e).size();
-        if (e instanceof IEventoConInscripcion c) {
-            lblCupoDisponible.setText("Cupo: " + inscriptos + " / " + c.getCupoMaximo());
-        } else {
-            lblCupoDisponible.setText("Cupo: -");
-        }
+        // Ocupación de la fila del combo, leída de la base al abrir el modal (incluye lo hecho desde
+        // otros puestos); también pone al día la copia en memoria que usan calendario y tablas
+        Ocupacion o = new Ocupacion(e.inscriptos(), e.cupoMaximo());
+        servicio.ocupacionLeida(e.idEvento(), o);
+        lblCupoDisponible.setText("Cupo: " + o + " (quedan " + o.restante() + ")");
 
         lblFechaEvento.setText("Fecha: " +
-                e.getFechaInicio().format(FECHAS) + " a " + e.getFechaFin().format(FECHAS));
+                e.fechaInicio().format(FECHAS) + " a " + e.fechaFin().format(FECHAS));
     }
 
     private void pintarInfoPersona(Persona p) {
@@ -243,34 +270,20 @@ public class ABMParticipanteController {
 
     // listas de eventos
 
-    // Eventos que requieren inscripción (para el combo del filtro).
-    private List<Evento> eventosConCupo() {
-        return servicio.listarEventos().stream()
-                .filter(e -> e instanceof IEventoConInscripcion)
-                .toList();
-    }
-
-    // Eventos que requieren inscripción y están CONFIRMADOS y no vencidos.
-    private boolean esInscribibleAhora(Evento e) {
-        if (!(e instanceof IEventoConInscripcion)) return false;
-        LocalDateTime ahora = LocalDateTime.now();
-        return e.getEstado() == EstadoEvento.CONFIRMADO
-                && e.getFechaFin() != null
-                && e.getFechaFin().isAfter(ahora);
-    }
-
     private void recargarEventosFiltro() {
-        var eventos = FXCollections.observableArrayList(eventosConCupo());
-        Long idSel = (comboEventoFiltro.getValue() == null) ? null : comboEventoFiltro.getValue().getIdEvento();
-        comboEventoFiltro.setItems(eventos);
-        if (idSel != null) seleccionarPorId(comboEventoFiltro, idSel);
+        // Eventos que requieren inscripción (para el combo del filtro)
+        async.cargar("eventosFiltro", servicio::listarEventosConInscripcion, lista -> {
+            Long idSel = (comboEventoFiltro.getValue() == null) ? null : comboEventoFiltro.getValue().idEvento();
+            comboEventoFiltro.setItems(FXCollections.observableArrayList(lista));
+            if (idSel != null) seleccionarPorId(comboEventoFiltro, idSel);
+        });
     }
 
     // Selecciona por ID (evita problemas de proxies/equals).
-    private void seleccionarPorId(ComboBox<Evento> combo, Long id) {
+    private void seleccionarPorId(ComboBox<EventoInscribible> combo, Long id) {
         if (id == null) return;
         combo.getItems().stream()
-                .filter(e -> Objects.equals(e.getIdEvento(), id))
+                .filter(e -> Objects.equals(e.idEvento(), id))
                 .findFirst()
                 .ifPresent(e -> combo.getSelectionModel().select(e));
     }
@@ -278,23 +291,28 @@ public class ABMParticipanteController {
     // personas elegibles
 
     // Llena el combo de personas con las elegibles para el evento (BD). 
-    private void cargarPersonasElegibles(Evento e){
+    // Cambiar de evento descarta la consulta del anterior
+    private void cargarPersonasElegibles(EventoInscribible e){
+        comboParticipante.setItems(FXCollections.observableArrayList());
         if (e == null) {
-            comboParticipante.setItems(FXCollections.observableArrayList());
+            async.cancelar("elegibles");
             comboParticipante.setPlaceholder(new Label("Seleccione un evento"));
             return;
         }
-        var libres = servicio.obtenerPersonasElegiblesParaEvento(e); // << NUEVO (va a BD)
-        comboParticipante.setItems(libres);
-        if (libres.isEmpty()) comboParticipante.setPlaceholder(new Label("No hay personas elegibles"));
+        comboParticipante.setPlaceholder(new Label("Cargando..."));
+        Long idEvento = e.idEvento();
+        async.cargar("elegibles", () -> servicio.obtenerPersonasElegiblesParaEvento(idEvento), libres -> {
+            comboParticipante.setItems(libres);
+            if (libres.isEmpty()) comboParticipante.setPlaceholder(new Label("No hay personas elegibles"));
+        });
     }
 
     // util
 
-    private StringConverter<Evento> eventoConverter() {
+    private StringConverter<EventoInscribible> eventoConverter() {
         return new StringConverter<>() {
-            @Override public String toString(Evento e) { return e==null? "" : e.getNombre(); }
-            @Override public Evento fromString(String s) { return null; }
+            @Override public String toString(EventoInscribible e) { return e==null? "" : e.nombre(); }
+            @Override public EventoInscribible fromString(String s) { return null; }
         };
     }
 
@@ -327,7 +345,4 @@ public class ABMParticipanteController {
     private void show(Alert.AlertType t, String h, String m){
         Alert a = new Alert(t); a.setHeaderText(h); a.setContentText(m); a.showAndWait();
     }
-
-    // fila de la tabla
-    public record Fila(Evento evento, Persona persona) {}
 }
@@ -6,6 +6,8 @@ import java.time.format.DateTimeFormatter;
 import com.app_eventos.model.Pelicula;
 import com.app_eventos.model.enums.TipoPelicula;
 import com.app_eventos.services.Servicio;
+import com.app_eventos.utils.PaginadorTabla;
+import com.app_eventos.utils.Refrescable;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -14,7 +16,7 @@ import javafx.scene.control.*;
 import javafx.scene.layout.StackPane;
 import javafx.util.StringConverter;
 
-public class ABMPeliculaController {
+public class ABMPeliculaController implements Refrescable {
 
     // Componentes de la tabla
     @FXML private TableView<Pelicula> tablaPeliculas;
@@ -33,6 +35,8 @@ public class ABMPeliculaController {
     @FXML private ComboBox<TipoPelicula> comboTipoPelicula;
 
     private final Servicio servicio = Servicio.getInstance();
+    private static final int TAMANIO_PAGINA = 200;
+    private PaginadorTabla<Pelicula> paginador;
     private Pelicula peliculaSeleccionada;
     private boolean modoEdicion;
 
@@ -82,7 +86,9 @@ public class ABMPeliculaController {
         spinnerDuracion.setValueFactory(crearFactoryDuracion(LocalTime.of(0, 1), LocalTime.of(9, 59), 5));
         spinnerDuracion.setEditable(true);
 
-        // Carga inicial pedimos a servicio
+        // Carga inicial pedimos a servicio (por páginas)
+        paginador = new PaginadorTabla<>(tablaPeliculas, TAMANIO_PAGINA,
+                (ultima, tamanio) -> () -> servicio.obtenerPeliculasPagina(ultima, tamanio));
         refrescarDatos();
     }
 
@@ -219,9 +225,13 @@ public class ABMPeliculaController {
     }
 
     // API de refresco
-    // Vuelve a pedir al Servicio la lista de películas y actualiza la tabla.
+    // Vuelve a pedir al Servicio la primera página de películas y actualiza la tabla.
+    // Al volver a la vista (MainController)
+    @Override
+    public void refrescar() { refrescarDatos(); }
+
     public void refrescarDatos() {
-        tablaPeliculas.setItems(servicio.obtenerPeliculas()); // nueva lista desde BD
+        paginador.reiniciar(); // nueva página desde BD
         tablaPeliculas.refresh();
     }
 }
@@ -1,18 +1,23 @@
 package com.app_eventos.controllers;
 
 import com.app_eventos.model.Persona;
+import com.app_eventos.repository.Pagina;
 import com.app_eventos.services.Servicio;
+import com.app_eventos.utils.FiltroTabla;
+import com.app_eventos.utils.PaginadorTabla;
+import com.app_eventos.utils.Refrescable;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.StackPane;
 import org.hibernate.exception.ConstraintViolationException;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Supplier;
 
-public class ABMPersonaController {
+public class ABMPersonaController implements Refrescable {
 
     // Filtros
     @FXML private TextField txtNombreFiltro;
@@ -36,6 +41,12 @@ public class ABMPersonaController {
 
     private final Servicio servicio = Servicio.getInstance();
 
+    private static final int TAMANIO_PAGINA = 200;
+    private PaginadorTabla<Persona> paginador;
+    // Filtros vigentes de la tabla; clave de la cache de primeras páginas
+    private record FiltroPersonas(String nombre, String dni) {}
+    private FiltroTabla<FiltroPersonas, Persona> filtros;
+
     private Persona personaSeleccionada = null;
     private boolean modoEdicion = false;
 
@@ -58,12 +69,16 @@ public class ABMPersonaController {
         colTelefono.setCellValueFactory(d -> new javafx.beans.property.SimpleStringProperty(d.getValue().getTelefono()));
         colEmail.setCellValueFactory(d -> new javafx.beans.property.SimpleStringProperty(d.getValue().getEmail()));
 
-        // Carga inicial
-        tablaPersonas.setItems(servicio.obtenerPersonas());
+        // Carga inicial: primera página, el resto al hacer scroll
+        paginador = new PaginadorTabla<>(tablaPersonas, TAMANIO_PAGINA, this::cargarPagina);
+        // Una búsqueda por pausa al escribir; la primera página de cada filtro vale 30 s
+        filtros = new FiltroTabla<>("Filtros de personas", Duration.ofMillis(300),
+                                    Duration.ofSeconds(30), this::filtrar);
+        filtros.buscarAhora();
 
-        // Filtros reactivos
-        txtNombreFiltro.setOnKeyReleased(this::filtrar);
-        txtDNIFiltro.setOnKeyReleased(this::filtrar);
+        // Filtros reactivos: solo cambios del texto (flechas, Shift o Tab no buscan)
+        txtNombreFiltro.textProperty().addListener((_,_,_)->filtros.cambio());
+        txtDNIFiltro.textProperty().addListener((_,_,_)->filtros.cambio());
 
         // Selección
         tablaPersonas.setOnMouseClicked(this::onSeleccionarFila);
@@ -191,21 +206,29 @@ public class ABMPersonaController {
 
     // Filtros / Tabla
 
-    private void filtrar(KeyEvent e) {
-        ObservableList<Persona> filtradas = servicio.filtrarPersonas(
-            txtNombreFiltro.getText(),
-            txtDNIFiltro.getText()
-        );
-        tablaPersonas.setItems(filtradas);
+    private void filtrar() {
+        paginador.reiniciar();
+        tablaPersonas.refresh();
+    }
+
+    // Siguiente página con los filtros vigentes (se leen acá, en el hilo de JavaFX)
+    private Supplier<Pagina<Persona>> cargarPagina(Persona ultima, int tamanio) {
+        String nombre = txtNombreFiltro.getText(), dni = txtDNIFiltro.getText();
+        return filtros.consulta(new FiltroPersonas(nombre, dni), ultima,
+                () -> servicio.obtenerPersonasPagina(nombre, dni, ultima, tamanio));
     }
 
     private void onSeleccionarFila(MouseEvent e) {
         personaSeleccionada = tablaPersonas.getSelectionModel().getSelectedItem();
     }
 
+    // Al volver a la vista (MainController)
+    @Override
+    public void refrescar() { refrescarDatos(); }
+
+    // Tras un alta, baja o modificación: sin cache y sin esperar
     public void refrescarDatos() {
-        tablaPersonas.setItems(servicio.obtenerPersonas());
-        tablaPersonas.refresh();
+        filtros.invalidarYBuscar();
     }
 
     // Helpers
@@ -5,7 +5,10 @@ import com.app_eventos.model.Persona;
 import com.app_eventos.model.RolEvento;
 import com.app_eventos.model.enums.TipoRol;
 import com.app_eventos.services.Servicio;
+import com.app_eventos.utils.CargadorAsync;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -24,17 +27,26 @@ public class AsigRolEventoController {
     @FXML private TableColumn<RolEvento, String> colDni;
     @FXML private TableColumn<RolEvento, String> colNombre;
     @FXML private TableColumn<RolEvento, TipoRol> colRol;
+    @FXML private Button btnAgregar;
+    @FXML private Button btnEliminar;
 
     private final ObservableList<RolEvento> rolesEvento = FXCollections.observableArrayList();
     private final Servicio servicio = Servicio.getInstance();
+    private final CargadorAsync async = new CargadorAsync();
+    // Alta o baja de rol en curso (en segundo plano): Agregar y Eliminar esperan a que termine
+    private final BooleanProperty ocupado = new SimpleBooleanProperty(false);
 
     private Evento evento;
     private Consumer<Evento> onRolesChanged;
 
     @FXML
     public void initialize() {
-        // Personas para el combo
-        comboPersona.setItems(servicio.obtenerPersonas());
+        btnAgregar.disableProperty().bind(ocupado);
+        btnEliminar.disableProperty().bind(ocupado);
+
+        // Personas para el combo (en segundo plano)
+        comboPersona.setPlaceholder(new Label("Cargando..."));
+        async.cargar("personas", servicio::obtenerPersonas, comboPersona::setItems);
         comboPersona.setConverter(new StringConverter<>() {
             @Override public String toString(Persona p) {
                 if (p == null) return "";
@@ -66,9 +78,11 @@ public class AsigRolEventoController {
             mostrarAdvertencia("Atención", "Debe seleccionar persona y rol.");
             return;
         }
-        try {
-            // Persistir, asegura que el objeto RolEvento es válido.
-            var creado = servicio.asignarRol(evento, persona, rol);
+        // Persistir, asegura que el objeto RolEvento es válido.
+        Evento ev = evento;
+        ocupado.set(true);
+        async.cargar("rol", () -> servicio.asignarRol(ev, persona, rol), creado -> {
+            ocupado.set(false);
             if (creado == null) {
                 mostrarAdvertencia("Aviso", "Ese rol ya está asignado a esa persona.");
             }
@@ -78,9 +92,10 @@ public class AsigRolEventoController {
 
             comboPersona.getSelectionModel().clearSelection();
             comboTipoRol.getSelectionModel().clearSelection();
-        } catch (IllegalArgumentException | IllegalStateException ex) {
+        }, ex -> {
+            ocupado.set(false);
             mostrarError("No se pudo agregar", ex.getMessage());
-        }
+        });
     }
 
     @FXML
@@ -94,13 +109,16 @@ public class AsigRolEventoController {
             mostrarAdvertencia("Atención", "Debe seleccionar la fila a eliminar.");
             return;
         }
-        try {
-            servicio.eliminarRol(evento, seleccionado.getPersona(), seleccionado.getRol());
+        Evento ev = evento;
+        ocupado.set(true);
+        async.cargar("rol", () -> { servicio.eliminarRol(ev, seleccionado.getPersona(), seleccionado.getRol()); return null; }, _ -> {
+            ocupado.set(false);
             refrescarTablaDesdeBD();
             notificarCambio();
-        } catch (IllegalArgumentException | IllegalStateException ex) {
+        }, ex -> {
+            ocupado.set(false);
             mostrarError("No se pudo eliminar", ex.getMessage());
-        }
+        });
     }
 
     @FXML
@@ -122,8 +140,11 @@ public class AsigRolEventoController {
     }
 
     private void refrescarTablaDesdeBD() {
-        rolesEvento.setAll(servicio.obtenerRolesDeEvento(evento));
-        tablaRoles.refresh();
+        Evento ev = evento;
+        async.cargar("roles", () -> servicio.obtenerRolesDeEvento(ev), roles -> {
+            rolesEvento.setAll(roles);
+            tablaRoles.refresh();
+        });
     }
 
     private void notificarCambio() {
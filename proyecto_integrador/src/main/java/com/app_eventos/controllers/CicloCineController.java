@@ -2,6 +2,8 @@ package com.app_eventos.controllers;
 
 import com.app_eventos.model.Pelicula;
 import com.app_eventos.services.Servicio;
+import com.app_eventos.utils.CargadorAsync;
+import com.app_eventos.utils.Refrescable;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,7 +18,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
-public class CicloCineController {
+public class CicloCineController implements Refrescable {
 
     @FXML private RadioButton radioSi;
     @FXML private RadioButton radioNo;
@@ -27,6 +29,8 @@ public class CicloCineController {
 
     private final Servicio servicio = Servicio.getInstance();
     private final ObservableList<Pelicula> todas = FXCollections.observableArrayList();
+    private final CargadorAsync async = new CargadorAsync();
+    private boolean peliculasCargadas;
     private FilteredList<Pelicula> filtradas;
 
     // Selección basada en IDs (evita comparar instancias distintas)
@@ -39,8 +43,7 @@ public class CicloCineController {
         );
         spinnerCupoMaximo.setEditable(true);
 
-        // Cargar películas desde servicio
-        todas.setAll(servicio.obtenerPeliculas());
+        recargarPeliculas();
         filtradas = new FilteredList<>(todas, _ -> true);
         listaPeliculas.setItems(filtradas);
 
@@ -80,6 +83,28 @@ public class CicloCineController {
         actualizarContador();
     }
 
+    // Fragmento reutilizado: vuelve a los valores de un alta y relee las películas
+    @Override
+    public void refrescar() {
+        setPostCharla(false);
+        setCupoMaximo(0);
+        txtFiltro.clear();
+        seleccionadasIds.clear();
+        actualizarContador();
+        recargarPeliculas();
+    }
+
+    // Películas desde servicio, en segundo plano (la selección va por ID y se conserva)
+    void recargarPeliculas() {
+        peliculasCargadas = false;
+        listaPeliculas.setPlaceholder(new ProgressIndicator());
+        async.cargar("peliculas", servicio::obtenerPeliculas, pelis -> {
+            todas.setAll(pelis);
+            peliculasCargadas = true;
+            listaPeliculas.setPlaceholder(new Label("No hay películas"));
+        });
+    }
+
     private void actualizarContador() {
         lblContador.setText(seleccionadasIds.size() + " seleccionadas");
     }
@@ -110,7 +135,9 @@ public class CicloCineController {
     }
 
     // devuelve las seleccionadas actuales (instancias de todas)
+    // Sin la lista cargada se guardaría el ciclo sin películas
     public List<Pelicula> getPeliculasSeleccionadas() {
+        if (!peliculasCargadas) throw new IllegalStateException("Las películas todavía se están cargando.");
         return todas.stream()
                 .filter(p -> p.getIdPelicula() != null && seleccionadasIds.contains(p.getIdPelicula()))
                 .toList();
@@ -1,12 +1,13 @@
 package com.app_eventos.controllers;
 
 import com.app_eventos.model.enums.TipoEntrada;
+import com.app_eventos.utils.Refrescable;
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Spinner;
 import javafx.scene.control.SpinnerValueFactory;
 
-public class ConciertoController {
+public class ConciertoController implements Refrescable {
 
     @FXML
     private Spinner<Integer> spinnerCupoMaximo;
@@ -23,6 +24,10 @@ public class ConciertoController {
         comboTipoEntradaConcierto.getItems().setAll(TipoEntrada.values());
     }
 
+    // Fragmento reutilizado: vuelve a los valores de un alta
+    @Override
+    public void refrescar() { setValores(null, 0); }
+
     public int getCupoMaximo() { return spinnerCupoMaximo.getValue(); }
 
     public TipoEntrada getTipoEntradaSeleccionada() { return comboTipoEntradaConcierto.getValue(); }
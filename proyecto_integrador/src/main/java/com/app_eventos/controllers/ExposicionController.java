@@ -1,10 +1,11 @@
 package com.app_eventos.controllers;
 
 import com.app_eventos.model.enums.TipoArte;
+import com.app_eventos.utils.Refrescable;
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
 
-public class ExposicionController {
+public class ExposicionController implements Refrescable {
 
     @FXML
     private ComboBox<TipoArte> comboTipoArte;
@@ -14,6 +15,10 @@ public class ExposicionController {
         comboTipoArte.getItems().setAll(TipoArte.values());
     }
     
+    // Fragmento reutilizado: vuelve a los valores de un alta
+    @Override
+    public void refrescar() { setValores(null); }
+
     public TipoArte getTipoArteSeleccionado() { return comboTipoArte.getValue(); }
 
     public void setValores(TipoArte tipo) { comboTipoArte.getSelectionModel().select(tipo); }
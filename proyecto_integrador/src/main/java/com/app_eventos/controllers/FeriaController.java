@@ -1,12 +1,13 @@
 package com.app_eventos.controllers;
 
 import com.app_eventos.model.enums.TipoAmbiente;
+import com.app_eventos.utils.Refrescable;
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Spinner;
 import javafx.scene.control.SpinnerValueFactory;
 
-public class FeriaController {
+public class FeriaController implements Refrescable {
 
     @FXML
     private Spinner<Integer> spinnerCantidadStands;
@@ -20,6 +21,10 @@ public class FeriaController {
         comboAmbiente.getItems().setAll(TipoAmbiente.values());
     }
 
+    // Fragmento reutilizado: vuelve a los valores de un alta
+    @Override
+    public void refrescar() { setValores(0, null); }
+
     public int getCantidadStands() { return spinnerCantidadStands.getValue(); }
 
     public TipoAmbiente getAmbienteSeleccionado() { return comboAmbiente.getValue(); }
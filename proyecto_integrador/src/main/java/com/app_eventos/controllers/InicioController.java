@@ -5,33 +5,45 @@ import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.app_eventos.model.Evento;
 import com.app_eventos.model.enums.TipoEvento;
+import com.app_eventos.repository.MetricasTablero;
+import com.app_eventos.repository.Ocupacion;
 import com.app_eventos.services.Servicio;
+import com.app_eventos.utils.CargadorAsync;
+import com.app_eventos.utils.GrillaCalendario;
+import com.app_eventos.utils.IndiceCalendario;
+import com.app_eventos.utils.Refrescable;
 
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
+import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 
-public class InicioController {
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InicioController implements Refrescable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InicioController.class);
 
     @FXML private Label lblTotalEventos;
     @FXML private Label lblEventosActivos;
@@ -53,72 +65,119 @@ public class InicioController {
     @FXML private CheckBox chkCiclosCine;
 
     // Datos
-    private List<Evento> todosLosEventos;   // Traídos de BD para el mes visible
-    private List<Evento> eventosFiltrados;  // Lista pintada (aplicando filtros)
+    // Calendario: celdas fijas reutilizadas en cada redibujo, con el contenido que arma la grilla
+    private static final int CELDAS = GrillaCalendario.CELDAS;
+    private final CeldaDia[] celdas = new CeldaDia[CELDAS];
+    private final GrillaCalendario grilla = new GrillaCalendario();
+
+    private IndiceCalendario indice;        // Eventos del mes visible, por día (se arma con cada carga)
+    private int tiposVisibles = IndiceCalendario.TODOS;  // Filtro por tipo (máscara de bits)
 
     // Mes/Año que se está mostrando
     private LocalDate fechaActual;
 
     // Servicio de negocio (consulta BD)
     private final Servicio servicio = Servicio.getInstance();
+    private final CargadorAsync async = new CargadorAsync();
 
     @FXML
     public void initialize() {
-        this.todosLosEventos = new ArrayList<>();
-        this.eventosFiltrados = new ArrayList<>();
         this.fechaActual = LocalDate.now();
+        this.indice = new IndiceCalendario(YearMonth.from(fechaActual), List.of());
 
         cargarEventosDelMes();  // lee de BD
         dibujarCalendario();
+        cargarMetricas();
+    }
+
+    // Al volver a la vista (MainController): mismo mes, datos releídos
+    @Override
+    public void refrescar() {
+        cargarEventosDelMes();
+        dibujarCalendario();
+        cargarMetricas();
     }
 
-    // Carga desde BD según el mes visible
+    // Métricas del dashboard: una consulta (o los contadores en memoria) fuera del hilo de la UI
+    private void cargarMetricas() {
+        async.cargar("metricas", servicio::metricasTablero, this::pintarMetricas);
+    }
+
+    private void pintarMetricas(MetricasTablero m) {
+        if (lblTotalEventos != null)    lblTotalEventos.setText(String.valueOf(m.eventos()));
+        if (lblEventosActivos != null)  lblEventosActivos.setText(String.valueOf(m.eventosActivos()));
+        if (lblTotalPersonas != null)   lblTotalPersonas.setText(String.valueOf(m.personas()));
+        if (lblInscripciones != null)   lblInscripciones.setText(String.valueOf(m.inscripciones()));
+    }
+
+    // Carga desde BD según el mes visible, en segundo plano: el calendario se dibuja vacío
+    // y se redibuja al llegar los eventos. Cambiar de mes antes descarta la consulta anterior.
     private void cargarEventosDelMes() {
+        YearMonth mes = YearMonth.from(fechaActual);
         LocalDate inicioMes = fechaActual.withDayOfMonth(1);
         LocalDate finMes = fechaActual.with(TemporalAdjusters.lastDayOfMonth());
 
-        // Trae eventos del rango
-        this.todosLosEventos = servicio.listarEventosPorRango(
-                inicioMes.atStartOfDay(),
-                finMes.atTime(23, 59, 59)
-        );
-
-        // Por defecto, mostrar todos
-        this.eventosFiltrados = new ArrayList<>(this.todosLosEventos);
-
-        // Métricas del dashboard
-        if (lblTotalEventos != null)    lblTotalEventos.setText(String.valueOf(servicio.contarEventos()));
-        if (lblEventosActivos != null)  lblEventosActivos.setText(String.valueOf(servicio.contarEventosActivos()));
-        if (lblTotalPersonas != null)   lblTotalPersonas.setText(String.valueOf(servicio.contarPersonas()));
-        if (lblInscripciones != null)   lblInscripciones.setText(String.valueOf(servicio.contarInscripciones()));
+        this.indice = new IndiceCalendario(mes, List.of());
+        ProgressIndicator cargando = new ProgressIndicator();
+        cargando.setMaxSize(16, 16);
+        lblMesAnio.setGraphic(cargando);
+
+        // Trae eventos del rango y arma el índice por día, ambos en segundo plano
+        async.cargar("mes", () -> new IndiceCalendario(mes,
+                        servicio.listarEventosPorRango(inicioMes.atStartOfDay(), finMes.atTime(23, 59, 59))),
+                cargado -> {
+                    lblMesAnio.setGraphic(null);
+                    this.indice = cargado;
+                    dibujarCalendario();
+                }, ex -> {
+                    lblMesAnio.setGraphic(null);
+                    CargadorAsync.mostrarError(ex);
+                });
     }
 
-    // Filtros
+    // Filtros: solo cambia la máscara; el índice del mes no se toca (vale también al cambiar de mes)
     @FXML
     private void aplicarFiltros() {
-        Set<TipoEvento> tiposSeleccionados = new HashSet<>();
+        Set<TipoEvento> tiposSeleccionados = EnumSet.noneOf(TipoEvento.class);
         if (chkFerias.isSelected())      tiposSeleccionados.add(TipoEvento.FERIA);
         if (chkConciertos.isSelected())  tiposSeleccionados.add(TipoEvento.CONCIERTO);
         if (chkExposiciones.isSelected())tiposSeleccionados.add(TipoEvento.EXPOSICION);
         if (chkTalleres.isSelected())    tiposSeleccionados.add(TipoEvento.TALLER);
         if (chkCiclosCine.isSelected())  tiposSeleccionados.add(TipoEvento.CICLO_CINE);
 
-        this.eventosFiltrados = this.todosLosEventos.stream()
-                .filter(e -> tiposSeleccionados.isEmpty() || tiposSeleccionados.contains(e.getTipoEvento()))
-                .collect(Collectors.toList());
-
+        this.tiposVisibles = IndiceCalendario.mascara(tiposSeleccionados);
         dibujarCalendario();
     }
 
-    // Dibujo del calendario
+    // Dibujo del calendario: solo actualiza las 42 celdas ya creadas (armarCalendario)
     private void dibujarCalendario() {
-    String mes = fechaActual.getMonth().getDisplayName(TextStyle.FULL, Locale.forLanguageTag("es-ES"));
+        long inicio = System.nanoTime();
+        String mes = fechaActual.getMonth().getDisplayName(TextStyle.FULL, Locale.forLanguageTag("es-ES"));
         String anio = String.valueOf(fechaActual.getYear());
         lblMesAnio.setText(mes.substring(0, 1).toUpperCase() + mes.substring(1) + " " + anio);
 
+        if (celdas[0] == null) armarCalendario();
+
+        // Celdas del mes: día y cantidades por tipo salen de la grilla
+        YearMonth anioMes = YearMonth.from(fechaActual);
+        grilla.llenar(anioMes, indice, tiposVisibles);
+        for (int i = 0; i < CELDAS; i++) {
+            if (grilla.dia(i) > 0) celdas[i].mostrar(i);
+            else celdas[i].vaciar();
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Calendario {}: redibujo en {} µs, {} nodos", anioMes,
+                      (System.nanoTime() - inicio) / 1_000, contarNodos(panelCalendario));
+        }
+    }
+
+    // Grilla fija: encabezado + 6 semanas x 7 días. Se crea una vez; cada celda tiene un indicador por
+    // tipo de evento (punto + cantidad), así la cantidad de nodos no depende de cuántos eventos haya.
+    private void armarCalendario() {
         GridPane calendarioGrid = new GridPane();
         calendarioGrid.getStyleClass().add("calendario-grid-contenido");
-        
+
         for (int i = 0; i < 7; i++) {
             ColumnConstraints colConst = new ColumnConstraints();
             colConst.setHgrow(Priority.ALWAYS);
@@ -135,67 +194,82 @@ public class InicioController {
             calendarioGrid.add(lblDia, i, 0);
         }
 
-        // Celdas del mes
-        YearMonth anioMes = YearMonth.from(fechaActual);
-        int diasEnMes = anioMes.lengthOfMonth();
-        int primerDiaDelMes = fechaActual.withDayOfMonth(1).getDayOfWeek().getValue() % 7; // 0=Domingo
-
-        for (int i = 0; i < 6; i++) {          // filas
-            for (int j = 0; j < 7; j++) {      // columnas
-                int diaCalculado = (i * 7) + j - primerDiaDelMes + 1;
-                Node celda = (diaCalculado > 0 && diaCalculado <= diasEnMes)
-                        ? crearCeldaDia(diaCalculado)
-                        : crearCeldaVacia();
-                calendarioGrid.add(celda, j, i + 1);
-            }
+        for (int i = 0; i < CELDAS; i++) {
+            celdas[i] = new CeldaDia();
+            calendarioGrid.add(celdas[i].raiz, i % 7, i / 7 + 1);
         }
 
         panelCalendario.getChildren().setAll(calendarioGrid);
     }
 
-    // Celda clicable de un día
-    private Node crearCeldaDia(int dia) {
-        Button celdaBoton = new Button();
-        celdaBoton.setMaxWidth(Double.MAX_VALUE);
-        celdaBoton.setMinHeight(80);
-        celdaBoton.getStyleClass().add("calendario-celda");
-
-        VBox contenidoCelda = new VBox(5);
-        contenidoCelda.setAlignment(Pos.TOP_CENTER);
-
-        // Número de día
-        Label lblNumeroDia = new Label(String.valueOf(dia));
-        lblNumeroDia.getStyleClass().add("calendario-numero-dia");
-        contenidoCelda.getChildren().add(lblNumeroDia);
-
-        // Eventos del día (lista filtrada) - considerar todo el intervalo del evento
-        LocalDate fechaDelDia = fechaActual.withDayOfMonth(dia);
-        List<Evento> eventosDelDia = eventosFiltrados.stream()
-                .filter(e -> {
-                    LocalDate fechaInicio = e.getFechaInicio().toLocalDate();
-                    LocalDate fechaFin = e.getFechaFin().toLocalDate();
-                    // El evento se muestra en todas las fechas desde inicio hasta fin (inclusive)
-                    return !fechaDelDia.isBefore(fechaInicio) && !fechaDelDia.isAfter(fechaFin);
-                })
-                .collect(Collectors.toList());
-
-        // Puntitos por tipo
-        if (!eventosDelDia.isEmpty()) {
-            HBox contenedorIconos = new HBox(3);
-            contenedorIconos.setAlignment(Pos.CENTER);
-            for (Evento evento : eventosDelDia) {
-                Circle punto = new Circle(5, getColorPorTipo(evento.getTipoEvento()));
-                contenedorIconos.getChildren().add(punto);
+    private static int contarNodos(Node n) {
+        int total = 1;
+        if (n instanceof Parent p) for (Node hijo : p.getChildrenUnmodifiable()) total += contarNodos(hijo);
+        return total;
+    }
+
+    // Celda reutilizable: botón del día o hueco fuera del mes
+    private final class CeldaDia {
+        private final StackPane raiz = new StackPane();
+        private final VBox vacia = new VBox();
+        private final Button boton = new Button();
+        private final Label numero = new Label();
+        private final HBox iconos = new HBox(3);
+        private final Label[] porTipo = new Label[TipoEvento.values().length];
+        private int dia;
+
+        CeldaDia() {
+            vacia.getStyleClass().add("calendario-celda-vacia");
+
+            boton.setMaxWidth(Double.MAX_VALUE);
+            boton.setMinHeight(80);
+            boton.getStyleClass().add("calendario-celda");
+            // Oculto no ocupa lugar: una semana entera fuera del mes queda baja, como antes
+            boton.managedProperty().bind(boton.visibleProperty());
+
+            // Número de día y un indicador por tipo (oculto si ese día no hay)
+            numero.getStyleClass().add("calendario-numero-dia");
+            iconos.setAlignment(Pos.CENTER);
+            for (TipoEvento tipo : TipoEvento.values()) {
+                Label indicador = new Label();
+                indicador.setGraphic(new Circle(5, getColorPorTipo(tipo)));
+                indicador.setStyle("-fx-font-size: 10px;");
+                indicador.managedProperty().bind(indicador.visibleProperty());
+                porTipo[tipo.ordinal()] = indicador;
+                iconos.getChildren().add(indicador);
             }
-            contenidoCelda.getChildren().add(contenedorIconos);
-        }
+            VBox contenidoCelda = new VBox(5, numero, iconos);
+            contenidoCelda.setAlignment(Pos.TOP_CENTER);
+            boton.setGraphic(contenidoCelda);
 
-        celdaBoton.setGraphic(contenidoCelda);
+            // el click muestra lista lateral (la lista se arma recién acá)
+            boton.setOnAction(_ -> mostrarEventosDelDia(dia, indice.delDia(fechaActual.withDayOfMonth(dia), tiposVisibles)));
 
-        // el click muestra lista lateral
-        celdaBoton.setOnAction(_ -> mostrarEventosDelDia(dia, eventosDelDia));
+            raiz.getChildren().addAll(vacia, boton);
+        }
 
-        return celdaBoton;
+        // Copia a los nodos existentes lo que la grilla calculó para esta celda
+        void mostrar(int celda) {
+            this.dia = grilla.dia(celda);
+            vacia.setVisible(false);
+            boton.setVisible(true);
+            numero.setText(String.valueOf(dia));
+
+            boolean hay = false;
+            for (TipoEvento tipo : TipoEvento.values()) {
+                Label indicador = porTipo[tipo.ordinal()];
+                int n = grilla.cantidad(celda, tipo);
+                indicador.setVisible(n > 0);
+                indicador.setText(n > 1 ? String.valueOf(n) : "");
+                hay |= n > 0;
+            }
+            iconos.setVisible(hay);
+        }
+
+        void vaciar() {
+            boton.setVisible(false);
+            vacia.setVisible(true);
+        }
     }
 
     // Lista lateral de eventos del día
@@ -248,6 +322,14 @@ public class InicioController {
             lblHorario.setMaxWidth(Double.MAX_VALUE);
 
             contenedorEvento.getChildren().addAll(lblEvento, lblHorario);
+
+            // Eventos con cupo: ocupación desde memoria, sin consultar participantes
+            Ocupacion ocupacion = servicio.ocupacion(evento.getIdEvento());
+            if (ocupacion != null) {
+                Label lblCupo = new Label("  Inscriptos: " + ocupacion + " (quedan " + ocupacion.restante() + ")");
+                lblCupo.setStyle("-fx-text-fill: #7f8c8d; -fx-font-size: 11px;");
+                contenedorEvento.getChildren().add(lblCupo);
+            }
             vboxEventosDia.getChildren().add(contenedorEvento);
         }
     }
@@ -264,13 +346,6 @@ public class InicioController {
         };
     }
 
-    // Celdas vacías fuera del mes
-    private Node crearCeldaVacia() {
-        VBox celdaVacia = new VBox();
-        celdaVacia.getStyleClass().add("calendario-celda-vacia");
-        return celdaVacia;
-    }
-
     // Navegación del calendario
     @FXML private void mesAnterior() {
         fechaActual = fechaActual.minusMonths(1);
@@ -1,14 +1,14 @@
 package com.app_eventos.controllers;
 
+import com.app_eventos.utils.CacheVistas;
+import com.app_eventos.utils.CargadorAsync;
+
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
 import javafx.scene.layout.StackPane;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 
 import java.io.IOException;
-import java.net.URL;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -16,6 +16,19 @@ import java.util.List;
 
 public class MainController {
 
+    private static final String INICIO = "/fxml/inicio.fxml";
+    private static final String EVENTOS = "/fxml/abm/abmEvento.fxml";
+    private static final String PERSONAS = "/fxml/abm/abmPersona.fxml";
+    private static final String PARTICIPANTES = "/fxml/abm/abmParticipante.fxml";
+    private static final String PELICULAS = "/fxml/abm/abmPelicula.fxml";
+
+    // Vistas vivas a la vez (-Dapp.vistas.maximo); por defecto todas las del menú.
+    // Con -Dapp.vistas.precargar=true se cargan las demás al arrancar, después de Inicio.
+    private static final int MAXIMO_VISTAS = Integer.getInteger("app.vistas.maximo", 5);
+    private static final boolean PRECARGAR = Boolean.getBoolean("app.vistas.precargar");
+
+    private final CacheVistas vistas = new CacheVistas(MAXIMO_VISTAS);
+
     @FXML private Label fechaLabel;
     @FXML private StackPane contenidoCentral;
 
@@ -34,17 +47,15 @@ public class MainController {
         fechaLabel.setText(fechaFormateada.substring(0, 1).toUpperCase() + fechaFormateada.substring(1));
 
         mostrarInicio();
+        if (PRECARGAR) vistas.precargar(List.of(EVENTOS, PERSONAS, PARTICIPANTES, PELICULAS));
     }
 
     private void cargarContenidoCentral(String rutaFxml) {
+        // Lo que pidió la vista anterior ya no se publica
+        CargadorAsync.cancelarPendientes();
         try {
-            URL url = getClass().getResource(rutaFxml);
-            if (url == null) {
-                throw new IllegalStateException("No se encontró el FXML en la ruta: " + rutaFxml);
-            }
-            FXMLLoader loader = new FXMLLoader(url);
-            Parent vista = loader.load();
-            contenidoCentral.getChildren().setAll(vista);
+            // Reutiliza la vista si ya estaba cargada (y le pide refrescar sus datos)
+            contenidoCentral.getChildren().setAll(vistas.mostrar(rutaFxml).raiz());
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -63,31 +74,31 @@ public class MainController {
     // HANDLERS DE BOTONES
     @FXML
     private void mostrarInicio() {
-        cargarContenidoCentral("/fxml/inicio.fxml");
+        cargarContenidoCentral(INICIO);
         setActivo(btnInicio);
     }
 
     @FXML
     private void mostrarEventos() {
-        cargarContenidoCentral("/fxml/abm/abmEvento.fxml");
+        cargarContenidoCentral(EVENTOS);
         setActivo(btnEventos);
     }
 
     @FXML
     private void mostrarPersonas() {
-        cargarContenidoCentral("/fxml/abm/abmPersona.fxml");
+        cargarContenidoCentral(PERSONAS);
         setActivo(btnPersona);
     }
 
     @FXML
     private void mostrarParticipantes() {
-        cargarContenidoCentral("/fxml/abm/abmParticipante.fxml");
+        cargarContenidoCentral(PARTICIPANTES);
         setActivo(btnParticipantes);
     }
 
     @FXML
     private void mostrarPeliculas() {
-        cargarContenidoCentral("/fxml/abm/abmPelicula.fxml");
+        cargarContenidoCentral(PELICULAS);
         setActivo(btnPeliculas);
     }
 }
@@ -1,6 +1,7 @@
 package com.app_eventos.controllers;
 
 import com.app_eventos.model.enums.Modalidad;
+import com.app_eventos.utils.Refrescable;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
@@ -8,7 +9,7 @@ import javafx.scene.control.Spinner;
 import javafx.scene.control.SpinnerValueFactory;
 import javafx.scene.control.TextFormatter;
 
-public class TallerController {
+public class TallerController implements Refrescable {
 
     @FXML
     private Spinner<Integer> spinnerCupoMaximo;
@@ -37,6 +38,10 @@ public class TallerController {
         comboModalidad.getItems().setAll(Modalidad.values());
     }
     
+    // Fragmento reutilizado: vuelve a los valores de un alta
+    @Override
+    public void refrescar() { setValores(0, null); }
+
     public int getCupoMaximo() { return spinnerCupoMaximo.getValue(); }
 
     public Modalidad getModalidadSeleccionada() { return comboModalidad.getValue(); }
@@ -1,12 +1,16 @@
 package com.app_eventos.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
 import com.app_eventos.model.enums.*;
 import com.app_eventos.model.interfaces.IEventoConInscripcion;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "cicloCine")
@@ -18,16 +22,12 @@ public class CicloCine extends Evento implements IEventoConInscripcion {
         joinColumns = @JoinColumn(name = "ciclo_id", referencedColumnName = "idEvento"),      
         inverseJoinColumns = @JoinColumn(name = "pelicula_id", referencedColumnName = "idPelicula")
     )
-    private List<Pelicula> peliculas = new ArrayList<>();
+    private Set<Pelicula> peliculas = new HashSet<>();
 
-    // Participantes persistidos.
-    @ManyToMany
-    @JoinTable(
-        name = "cine_participante",
-        joinColumns = @JoinColumn(name = "evento_id"),
-        inverseJoinColumns = @JoinColumn(name = "persona_id")
-    )
-    private List<Persona> participantes = new ArrayList<>();
+    // Inscripciones activas (tabla única 'inscripcion', compartida por todos los eventos)
+    @OneToMany(mappedBy = "evento", cascade = CascadeType.PERSIST)
+    @SQLRestriction("activo = true")
+    private Set<Inscripcion> inscripciones = new HashSet<>();
 
     @Column(name = "postCharla", nullable = false)
     private boolean postCharla;
@@ -49,13 +49,20 @@ public class CicloCine extends Evento implements IEventoConInscripcion {
     // Películas
     public void agregarPelicula(Pelicula p) {
         if (p == null) throw new IllegalArgumentException("Película nula");
-        if (!peliculas.contains(p)) peliculas.add(p);
+        peliculas.add(p);
     }
 
     public void sacarPelicula(Pelicula p) { peliculas.remove(p); }
 
     public void clearPeliculas() { peliculas.clear(); }
 
+    // Deja exactamente las películas indicadas. Solo cambian las filas agregadas o quitadas.
+    public void sincronizarPeliculas(Collection<Pelicula> nuevas) {
+        Set<Pelicula> destino = (nuevas == null) ? Set.of() : new HashSet<>(nuevas);
+        peliculas.retainAll(destino);
+        peliculas.addAll(destino);
+    }
+
     // Devuelve una copia para no exponer la colección interna.
     public List<Pelicula> getPeliculas() { return new ArrayList<>(peliculas); }
 
@@ -69,14 +76,32 @@ public class CicloCine extends Evento implements IEventoConInscripcion {
         if (getCupoDisponible() <= 0)
             throw new IllegalStateException("Cupo completo.");
 
-        if (participantes.contains(persona))
+        if (estaInscripta(persona))
             throw new IllegalArgumentException("La persona ya está inscripta.");
 
-        participantes.add(persona);
+        inscripciones.add(new Inscripcion(this, persona));
+        sumarInscripto();
     }
 
-    @Override public void desinscribirParticipante(Persona persona) { participantes.remove(persona); }
-    @Override public List<Persona> getParticipantes() { return participantes; }
+    @Override
+    public void desinscribirParticipante(Persona persona) {
+        inscripciones.removeIf(i -> {
+            if (!i.getPersona().equals(persona)) return false;
+            i.setActivo(false);
+            restarInscripto();
+            return true;
+        });
+    }
+
+    @Override
+    public List<Persona> getParticipantes() {
+        return inscripciones.stream().map(Inscripcion::getPersona).toList();
+    }
+
+    // O(1): Inscripcion compara y hashea por (evento, persona), por ids o, sin guardar, por instancia
+    private boolean estaInscripta(Persona persona) {
+        return persona != null && inscripciones.contains(new Inscripcion(this, persona));
+    }
 
     // Cupo
     @Override public int getCupoMaximo() { return cupoMaximo; }
@@ -89,16 +114,14 @@ public class CicloCine extends Evento implements IEventoConInscripcion {
 
     @Override
     public int getCupoDisponible() {
-        int disp = cupoMaximo - participantes.size();
+        int disp = cupoMaximo - getInscriptos();
         return Math.max(0, disp);
     }
 
     // Roles
-    @Override protected boolean rolPermitido(TipoRol rol) { return rol == TipoRol.ORGANIZADOR; }
-
     @Override
     protected void validarRestriccionesRol(TipoRol rol, Persona persona) {
-        if (participantes.contains(persona))
+        if (estaInscripta(persona))
             throw new IllegalStateException("Ya es participante; no puede ser responsable.");
     }
 
@@ -1,12 +1,14 @@
 package com.app_eventos.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
 import com.app_eventos.model.enums.*;
 import com.app_eventos.model.interfaces.IEventoConInscripcion;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "concierto")
@@ -19,13 +21,10 @@ public class Concierto extends Evento implements IEventoConInscripcion {
     @Column(name = "cupoMaximo", nullable = false)
     private int cupoMaximo;
 
-    @ManyToMany
-    @JoinTable(
-        name = "concierto_participante",
-        joinColumns = @JoinColumn(name = "evento_id"),
-        inverseJoinColumns = @JoinColumn(name = "persona_id")
-    )
-    private List<Persona> participantes = new ArrayList<>();
+    // Inscripciones activas (tabla única 'inscripcion', compartida por todos los eventos)
+    @OneToMany(mappedBy = "evento", cascade = CascadeType.PERSIST)
+    @SQLRestriction("activo = true")
+    private Set<Inscripcion> inscripciones = new HashSet<>();
 
     public Concierto() {
         super();
@@ -49,14 +48,32 @@ public class Concierto extends Evento implements IEventoConInscripcion {
         if (getCupoDisponible() <= 0)
             throw new IllegalStateException("Cupo completo.");
 
-        if (participantes.contains(persona))
+        if (estaInscripta(persona))
             throw new IllegalArgumentException("La persona ya está inscripta.");
 
-        participantes.add(persona);
+        inscripciones.add(new Inscripcion(this, persona));
+        sumarInscripto();
     }
 
-    @Override public void desinscribirParticipante(Persona persona) { participantes.remove(persona); }
-    @Override public List<Persona> getParticipantes() { return participantes; }
+    @Override
+    public void desinscribirParticipante(Persona persona) {
+        inscripciones.removeIf(i -> {
+            if (!i.getPersona().equals(persona)) return false;
+            i.setActivo(false);
+            restarInscripto();
+            return true;
+        });
+    }
+
+    @Override
+    public List<Persona> getParticipantes() {
+        return inscripciones.stream().map(Inscripcion::getPersona).toList();
+    }
+
+    // O(1): Inscripcion compara y hashea por (evento, persona), por ids o, sin guardar, por instancia
+    private boolean estaInscripta(Persona persona) {
+        return persona != null && inscripciones.contains(new Inscripcion(this, persona));
+    }
 
     // Cupo 
     @Override public int getCupoMaximo() { return cupoMaximo; }
@@ -69,20 +86,14 @@ public class Concierto extends Evento implements IEventoConInscripcion {
 
     @Override
     public int getCupoDisponible() {
-        int disp = cupoMaximo - participantes.size();
+        int disp = cupoMaximo - getInscriptos();
         return Math.max(0, disp);
     }
 
-    // Roles permitidos 
-    @Override
-    protected boolean rolPermitido(TipoRol rol) {
-        return rol == TipoRol.ORGANIZADOR || rol == TipoRol.ARTISTA;
-    }
-
     // Validación de restricciones de rol
     @Override
     protected void validarRestriccionesRol(TipoRol rol, Persona persona) {
-        if (participantes.contains(persona))
+        if (estaInscripta(persona))
             throw new IllegalStateException("Ya es participante; no puede ser responsable.");
     }
 
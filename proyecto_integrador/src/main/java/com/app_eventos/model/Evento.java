@@ -1,6 +1,10 @@
 package com.app_eventos.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.SQLRestriction;
 import com.app_eventos.model.enums.*;
 
 import java.time.LocalDate;
@@ -9,7 +13,8 @@ import java.time.LocalTime;
 import java.util.*;
 
 @Entity
-@Table(name = "evento")
+@Table(name = "evento",
+       indexes = @Index(name = "idx_evento_activo_inicio", columnList = "activo, fechaInicio, idEvento"))
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class Evento {
 
@@ -39,12 +44,38 @@ public abstract class Evento {
     @Column(nullable = false)
     private boolean activo = true;
 
+    // Control optimista: guardar una copia desactualizada (otra instancia, otra pantalla o el
+    // planificador de estados la modificó después de cargarla) falla en lugar de pisar esos cambios
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // Inscripciones activas, para validar el cupo en O(1) sin contar la tabla de inscripciones.
+    // En la base lo cambia solo Repositorio, con un UPDATE relativo bajo bloqueo de la fila del evento:
+    // no se escribe al guardar la entidad (una copia cargada antes no pisa inscripciones posteriores)
+    // ni cuenta para @Version (inscribir no invalida un formulario de edición abierto).
+    @ColumnDefault("0")
+    @Column(name = "inscriptos", nullable = false, updatable = false)
+    @OptimisticLock(excluded = true)
+    private int inscriptos;
+
+    // Solo roles vigentes: los dados de baja (activo = false) no cuentan para las reglas.
+    // Al inicializarse se cargan de a lotes los roles de hasta 50 eventos de la sesión.
     @OneToMany(
     mappedBy = "evento",
     cascade = { CascadeType.PERSIST, CascadeType.MERGE },
     orphanRemoval = false)
+    @SQLRestriction("activo = true")
+    @BatchSize(size = 50)
     private List<RolEvento> roles = new ArrayList<>();
 
+    // Índices derivados de 'roles' (no se persisten): cantidad por tipo de rol y roles por persona.
+    // Se arman al primer uso (no inicializan la colección antes) y después se mantienen
+    // en cada alta o baja de rol; 'roles' solo se modifica desde estos métodos.
+    @Transient private EnumMap<TipoRol, Integer> cantidadPorRol;
+    @Transient private Map<Object, Integer> rolesPorPersona;
+
     // Constructores
     protected Evento() {
         this.estado = EstadoEvento.PLANIFICACIÓN;
@@ -71,8 +102,7 @@ public abstract class Evento {
     }
 
     private boolean rolCumplido() {
-        try { validarRol(); return true; }
-        catch (RuntimeException ex) { return false; }
+        return ReglasRol.rolFaltante(tipoEvento, conteoRoles()) == null;
     }
 
     private void validarGestionarRoles() {
@@ -143,46 +173,85 @@ public abstract class Evento {
     public void agregarResponsable(Persona persona, TipoRol rol) {
         validarGestionarRoles();
         if (persona == null || rol == null) throw new IllegalArgumentException("Persona y rol requeridos.");
-        if (!rolPermitido(rol)) throw new IllegalArgumentException("Rol no permitido para " + tipoEvento);
-        if (roles.stream().anyMatch(r -> r.getPersona().equals(persona)))
+        if (!ReglasRol.permitido(tipoEvento, rol)) throw new IllegalArgumentException("Rol no permitido para " + tipoEvento);
+        if (personaTieneRol(persona))
             throw new IllegalArgumentException("La persona ya tiene un rol asignado en este evento.");
+        String rechazo = ReglasRol.motivoRechazo(tipoEvento, rol, conteoRoles());
+        if (rechazo != null) throw new IllegalStateException(rechazo);
         validarRestriccionesRol(rol, persona);
-        roles.add(new RolEvento(this, persona, rol));
+        sumarRol(new RolEvento(this, persona, rol));
     }
 
     public void borrarResponsable(Persona persona, TipoRol rol) {
         validarGestionarRoles();
-        if (persona == null || rol == null || roles.isEmpty()) {
-            return;
-        }
-        roles.removeIf(r -> r.getPersona().equals(persona) && r.getRol() == rol);
+        quitarRol(persona, rol);
     }
 
     // si la persona ya tiene un rol, devuelve true
     public boolean personaTieneRol(Persona persona) {
-        return roles.stream().anyMatch(r -> r.getPersona().equals(persona));
+        if (persona == null) return false;
+        indexarRoles();
+        return rolesPorPersona.containsKey(clavePersona(persona));
     }
 
     public int contarRol(TipoRol rol) {
-        return (int) roles.stream().filter(r -> r.getRol() == rol).count();
+        indexarRoles();
+        return cantidadPorRol.getOrDefault(rol, 0);
     }
 
-    public void validarRol() {
-        if (contarRol(TipoRol.ORGANIZADOR) == 0)
-            throw new IllegalStateException("El evento debe tener al menos un ORGANIZADOR.");
+    // Cantidad de cada rol asignado (vista de solo lectura, sin recorrer los roles)
+    public Map<TipoRol, Integer> conteoRoles() {
+        indexarRoles();
+        return Collections.unmodifiableMap(cantidadPorRol);
     }
 
-    protected abstract boolean rolPermitido(TipoRol rol);
+    // Roles obligatorios según ReglasRol
+    public void validarRol() {
+        String faltante = ReglasRol.rolFaltante(tipoEvento, conteoRoles());
+        if (faltante != null) throw new IllegalStateException(faltante);
+    }
 
     // Limita las opciones que se muestran al asignar un rol segun el tipo de evento
     public EnumSet<TipoRol> rolesPermitidosAsignacion() {
-        EnumSet<TipoRol> set = EnumSet.noneOf(TipoRol.class);
-        for (TipoRol r : TipoRol.values()) if (rolPermitido(r)) set.add(r);
-        return set;
+        return ReglasRol.permitidos(tipoEvento);
     }
 
     // método utilizado en repositorio para agregar roles al cargar desde BD
-    public void agregarRol(RolEvento rol) { if (rol != null) roles.add(rol); }
+    public void agregarRol(RolEvento rol) { if (rol != null) sumarRol(rol); }
+
+    // Sin validaciones: refleja en memoria una baja ya hecha en la base (Servicio.eliminarRol)
+    public void quitarRol(Persona persona, TipoRol rol) {
+        if (persona == null || rol == null || roles.isEmpty()) return;
+        indexarRoles();
+        roles.removeIf(r -> {
+            if (!r.getPersona().equals(persona) || r.getRol() != rol) return false;
+            ajustarIndices(r, -1);
+            return true;
+        });
+    }
+
+    private void sumarRol(RolEvento r) {
+        indexarRoles();
+        roles.add(r);
+        ajustarIndices(r, 1);
+    }
+
+    private void indexarRoles() {
+        if (cantidadPorRol != null) return;
+        cantidadPorRol = new EnumMap<>(TipoRol.class);
+        rolesPorPersona = new HashMap<>();
+        for (RolEvento r : roles) ajustarIndices(r, 1);
+    }
+
+    private void ajustarIndices(RolEvento r, int delta) {
+        cantidadPorRol.merge(r.getRol(), delta, (a, b) -> a + b == 0 ? null : a + b);
+        rolesPorPersona.merge(clavePersona(r.getPersona()), delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    // Misma igualdad que Persona.equals: por id, o la propia instancia si todavía no tiene
+    private static Object clavePersona(Persona p) {
+        return p.getIdPersona() != null ? p.getIdPersona() : p;
+    }
 
     // Getters y Setters
     public Long getIdEvento() { return idEvento; }
@@ -205,9 +274,15 @@ public abstract class Evento {
         this.tipoEvento = tipoEvento;
     }
     
+    // Contador de inscriptos (en memoria; en la base lo mantiene Repositorio.ajustarInscriptos)
+    public int getInscriptos() { return inscriptos; }
+    public void sumarInscripto() { inscriptos++; }
+    public void restarInscripto() { if (inscriptos > 0) inscriptos--; }
+
     // Atributo para baja lógica
     public boolean isActivo() { return activo; }
     public void setActivo(boolean activo) { this.activo = activo; }
 
-    public List<RolEvento> getRoles() { return new ArrayList<>(roles); }
+    // Vista de solo lectura: los cambios pasan por agregarResponsable/borrarResponsable/agregarRol/quitarRol
+    public List<RolEvento> getRoles() { return Collections.unmodifiableList(roles); }
 }
\ No newline at end of file
@@ -29,27 +29,4 @@ public class Exposicion extends Evento {
         if (t == null) throw new IllegalArgumentException("Seleccione un tipo de arte.");
         this.tipoArte = t;
     }
-
-    // Roles permitidos
-    @Override
-    protected boolean rolPermitido(TipoRol rol) {
-        return rol == TipoRol.ORGANIZADOR || rol == TipoRol.CURADOR;
-    }
-
-    // Restricciones al asignar roles
-    @Override
-    protected void validarRestriccionesRol(TipoRol rol, Persona persona) {
-        if (rol == TipoRol.CURADOR && contarRol(TipoRol.CURADOR) >= 1) {
-            throw new IllegalStateException("La exposición solo admite un CURADOR.");
-        }
-    }
-
-    // Invariantes del dominio
-    @Override
-    public void validarRol() {
-        super.validarRol(); // exige al menos un ORGANIZADOR
-        if (contarRol(TipoRol.CURADOR) < 1) {
-            throw new IllegalStateException("La exposición debe tener un CURADOR.");
-        }
-    }
 }
\ No newline at end of file
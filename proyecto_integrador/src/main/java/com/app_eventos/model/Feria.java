@@ -15,8 +15,6 @@ public class Feria extends Evento {
         super(n, fi, ff, TipoEvento.FERIA); setCantidadStands(stands); setAmbiente(amb);
     }
 
-    @Override protected boolean rolPermitido(TipoRol rol) { return rol == TipoRol.ORGANIZADOR; }
-
     public int getCantidadStands() { 
         return cantidadStands; 
     }
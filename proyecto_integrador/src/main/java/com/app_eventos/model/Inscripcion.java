@@ -0,0 +1,89 @@
+package com.app_eventos.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Inscripción de una persona a un evento que admite participantes.
+// Tabla única para todos los tipos de evento; clave natural (evento, persona).
+@Entity
+@Table(
+    name = "inscripcion",
+    uniqueConstraints = @UniqueConstraint(name = "uk_inscripcion_evento_persona", columnNames = {"evento_id", "persona_id"}),
+    indexes = {
+        @Index(name = "idx_inscripcion_evento_activo", columnList = "evento_id, activo"),
+        @Index(name = "idx_inscripcion_persona_activo", columnList = "persona_id, activo")
+    }
+)
+public class Inscripcion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "idInscripcion")
+    private Long idInscripcion;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "evento_id", nullable = false)
+    private Evento evento;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "persona_id", nullable = false)
+    private Persona persona;
+
+    @Column(name = "fechaInscripcion", nullable = false)
+    private LocalDateTime fechaInscripcion;
+
+    @Column(nullable = false)
+    private boolean activo = true;
+
+    public Inscripcion() {}
+
+    public Inscripcion(Evento evento, Persona persona) {
+        if (evento == null || persona == null) throw new IllegalArgumentException("Evento y persona requeridos.");
+        this.evento = evento;
+        this.persona = persona;
+        this.fechaInscripcion = LocalDateTime.now();
+    }
+
+    @PrePersist
+    private void prePersist() {
+        if (fechaInscripcion == null) fechaInscripcion = LocalDateTime.now();
+    }
+
+    // Vuelve a activar una inscripción dada de baja (conserva la fila y su id)
+    public void reactivar() {
+        this.activo = true;
+        this.fechaInscripcion = LocalDateTime.now();
+    }
+
+    public Long getIdInscripcion() { return idInscripcion; }
+    public Evento getEvento() { return evento; }
+    public Persona getPersona() { return persona; }
+    public LocalDateTime getFechaInscripcion() { return fechaInscripcion; }
+
+    // Atributo para baja lógica
+    public boolean isActivo() { return activo; }
+    public void setActivo(boolean activo) { this.activo = activo; }
+
+    // Igualdad y hash por clave natural (evento, persona) usando los ids, que en un proxy de
+    // Hibernate no disparan la carga. Un evento o persona todavía sin id se compara por instancia:
+    // el control de duplicados (estaInscripta) vale también antes del primer guardado. Ese hash
+    // cambia al asignarse el id: las inscripciones hechas en memoria sobre un evento nuevo se
+    // vuelven a leer de la base después de guardarlo, no se siguen usando en el mismo Set.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Inscripcion otra)) return false;
+        return clave(evento, evento.getIdEvento()).equals(clave(otra.getEvento(), otra.getEvento().getIdEvento()))
+            && clave(persona, persona.getIdPersona()).equals(clave(otra.getPersona(), otra.getPersona().getIdPersona()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clave(evento, evento.getIdEvento()), clave(persona, persona.getIdPersona()));
+    }
+
+    // El id si ya lo tiene; si no, la propia instancia (Evento y Persona sin id son iguales solo a sí mismos)
+    private static Object clave(Object entidad, Long id) { return id != null ? id : entidad; }
+}
@@ -1,9 +1,14 @@
 package com.app_eventos.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.app_eventos.model.enums.TipoPelicula;
 
-@Entity @Table(name = "pelicula")
+@Entity @Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pelicula")
+@Table(name = "pelicula",
+       indexes = @Index(name = "idx_pelicula_activo_titulo", columnList = "activo, titulo, idPelicula"))
 public class Pelicula {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -48,4 +53,17 @@ public class Pelicula {
     // Atributo para baja lógica
     public boolean isActivo() { return activo; }
     public void setActivo(boolean activo) { this.activo = activo; }
+
+    // Igualdad y hash por id (estables entre instancias y proxies de Hibernate).
+    // Sin id todavía, solo es igual a sí misma y el hash es el de la instancia: cambia al persistir,
+    // así que una película nueva no va a un Set antes de guardarla (CicloCine recibe guardadas).
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Pelicula otra)) return false;
+        return idPelicula != null && idPelicula.equals(otra.getIdPelicula());
+    }
+
+    @Override
+    public int hashCode() { return idPelicula != null ? idPelicula.hashCode() : System.identityHashCode(this); }
 }
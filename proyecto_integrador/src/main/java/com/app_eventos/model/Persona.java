@@ -1,9 +1,18 @@
 package com.app_eventos.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+// Cache de segundo nivel local a cada instancia, con vencimiento corto (ehcache.xml); 'activo' se
+// valida contra la base al inscribir o asignar roles.
 @Entity
-@Table(name = "persona")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "persona")
+@BatchSize(size = 50)
+@Table(name = "persona",
+       indexes = @Index(name = "idx_persona_activo_apellido", columnList = "activo, apellido, nombre, idPersona"))
 public class Persona {
 
     @Id
@@ -130,4 +139,17 @@ public class Persona {
     public void setActivo(boolean activo) { this.activo = activo; }
 
     @Override public String toString(){ return apellido + ", " + nombre; }
+
+    // Igualdad y hash por id (estables entre instancias y proxies de Hibernate).
+    // Sin id todavía, solo es igual a sí misma y el hash es el de la instancia: cambia al persistir,
+    // así que una persona nueva no va a un Set o Map antes de guardarla (o se vuelve a agregar después).
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Persona otra)) return false;
+        return idPersona != null && idPersona.equals(otra.getIdPersona());
+    }
+
+    @Override
+    public int hashCode() { return idPersona != null ? idPersona.hashCode() : System.identityHashCode(this); }
 }
@@ -0,0 +1,71 @@
+package com.app_eventos.model;
+
+import com.app_eventos.model.enums.TipoEvento;
+import com.app_eventos.model.enums.TipoRol;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+// Reglas de roles por tipo de evento, en una sola tabla: qué roles admite, cuántos de cada uno
+// y cuáles son obligatorios para confirmar/ejecutar. La usan Evento (roles en memoria) y
+// Repositorio (conteos agrupados de la base). Las consultas no lanzan: devuelven el motivo o null.
+public final class ReglasRol {
+
+    private static final int SIN_LIMITE = Integer.MAX_VALUE;
+
+    // maximos: roles admitidos con su tope; requeridos: al menos uno de cada uno
+    private record Regla(EnumMap<TipoRol, Integer> maximos, EnumSet<TipoRol> requeridos) {}
+
+    private static final EnumMap<TipoEvento, Regla> REGLAS = new EnumMap<>(TipoEvento.class);
+    static {
+        REGLAS.put(TipoEvento.CONCIERTO, regla(Map.of(TipoRol.ORGANIZADOR, SIN_LIMITE, TipoRol.ARTISTA, SIN_LIMITE),
+                                               EnumSet.of(TipoRol.ORGANIZADOR)));
+        REGLAS.put(TipoEvento.TALLER, regla(Map.of(TipoRol.ORGANIZADOR, SIN_LIMITE, TipoRol.INSTRUCTOR, 1),
+                                            EnumSet.of(TipoRol.ORGANIZADOR, TipoRol.INSTRUCTOR)));
+        REGLAS.put(TipoEvento.EXPOSICION, regla(Map.of(TipoRol.ORGANIZADOR, SIN_LIMITE, TipoRol.CURADOR, 1),
+                                                EnumSet.of(TipoRol.ORGANIZADOR, TipoRol.CURADOR)));
+        REGLAS.put(TipoEvento.FERIA, regla(Map.of(TipoRol.ORGANIZADOR, SIN_LIMITE),
+                                           EnumSet.of(TipoRol.ORGANIZADOR)));
+        REGLAS.put(TipoEvento.CICLO_CINE, regla(Map.of(TipoRol.ORGANIZADOR, SIN_LIMITE),
+                                                EnumSet.of(TipoRol.ORGANIZADOR)));
+    }
+
+    private ReglasRol() {}
+
+    private static Regla regla(Map<TipoRol, Integer> maximos, EnumSet<TipoRol> requeridos) {
+        return new Regla(new EnumMap<>(maximos), requeridos);
+    }
+
+    public static boolean permitido(TipoEvento tipo, TipoRol rol) {
+        return tipo != null && rol != null && REGLAS.get(tipo).maximos().containsKey(rol);
+    }
+
+    public static EnumSet<TipoRol> permitidos(TipoEvento tipo) {
+        return tipo == null ? EnumSet.noneOf(TipoRol.class) : EnumSet.copyOf(REGLAS.get(tipo).maximos().keySet());
+    }
+
+    // Tipos de evento que exigen al menos un 'rol'
+    public static EnumSet<TipoEvento> queRequieren(TipoRol rol) {
+        EnumSet<TipoEvento> out = EnumSet.noneOf(TipoEvento.class);
+        REGLAS.forEach((tipo, r) -> { if (r.requeridos().contains(rol)) out.add(tipo); });
+        return out;
+    }
+
+    // null si se puede sumar otro 'rol' a un evento con estos conteos; si no, el motivo
+    public static String motivoRechazo(TipoEvento tipo, TipoRol rol, Map<TipoRol, Integer> conteo) {
+        if (!permitido(tipo, rol)) return "Rol " + rol + " no permitido para " + tipo;
+        int maximo = REGLAS.get(tipo).maximos().get(rol);
+        if (conteo.getOrDefault(rol, 0) >= maximo)
+            return "El evento ya tiene el máximo de " + rol + " (" + maximo + ").";
+        return null;
+    }
+
+    // null si con estos conteos están todos los roles obligatorios; si no, el primero que falta
+    public static String rolFaltante(TipoEvento tipo, Map<TipoRol, Integer> conteo) {
+        if (tipo == null) return null;
+        for (TipoRol rol : REGLAS.get(tipo).requeridos())
+            if (conteo.getOrDefault(rol, 0) < 1) return "El evento debe tener al menos un " + rol + ".";
+        return null;
+    }
+}
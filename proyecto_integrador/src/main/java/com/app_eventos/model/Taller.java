@@ -1,12 +1,14 @@
 package com.app_eventos.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
 import com.app_eventos.model.enums.*;
 import com.app_eventos.model.interfaces.IEventoConInscripcion;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "taller")
@@ -19,14 +21,10 @@ public class Taller extends Evento implements IEventoConInscripcion {
     @Column(name = "modalidad", nullable = false)
     private Modalidad modalidad;
 
-    // Tabla propia para participantes del taller
-    @ManyToMany
-    @JoinTable(
-        name = "taller_participante",
-        joinColumns = @JoinColumn(name = "evento_id"),
-        inverseJoinColumns = @JoinColumn(name = "persona_id")
-    )
-    private List<Persona> participantes = new ArrayList<>();
+    // Inscripciones activas (tabla única 'inscripcion', compartida por todos los eventos)
+    @OneToMany(mappedBy = "evento", cascade = CascadeType.PERSIST)
+    @SQLRestriction("activo = true")
+    private Set<Inscripcion> inscripciones = new HashSet<>();
 
     public Taller() {
         super();
@@ -50,14 +48,32 @@ public class Taller extends Evento implements IEventoConInscripcion {
         if (getCupoDisponible() <= 0)
             throw new IllegalStateException("Cupo lleno.");
 
-        if (participantes.contains(persona))
+        if (estaInscripta(persona))
             throw new IllegalArgumentException("La persona ya está inscripta.");
 
-        participantes.add(persona);
+        inscripciones.add(new Inscripcion(this, persona));
+        sumarInscripto();
     }
 
-    @Override public void desinscribirParticipante(Persona persona) { participantes.remove(persona); }
-    @Override public List<Persona> getParticipantes() { return participantes; }
+    @Override
+    public void desinscribirParticipante(Persona persona) {
+        inscripciones.removeIf(i -> {
+            if (!i.getPersona().equals(persona)) return false;
+            i.setActivo(false);
+            restarInscripto();
+            return true;
+        });
+    }
+
+    @Override
+    public List<Persona> getParticipantes() {
+        return inscripciones.stream().map(Inscripcion::getPersona).toList();
+    }
+
+    // O(1): Inscripcion compara y hashea por (evento, persona), por ids o, sin guardar, por instancia
+    private boolean estaInscripta(Persona persona) {
+        return persona != null && inscripciones.contains(new Inscripcion(this, persona));
+    }
 
     // Cupo (sin booleanos)
     @Override public int getCupoMaximo() { return cupoMaximo; }
@@ -72,7 +88,7 @@ public class Taller extends Evento implements IEventoConInscripcion {
 
     @Override
     public int getCupoDisponible() {
-        int disp = cupoMaximo - participantes.size();
+        int disp = cupoMaximo - getInscriptos();
         return Math.max(0, disp);
     }
 
@@ -83,25 +99,10 @@ public class Taller extends Evento implements IEventoConInscripcion {
     }
     public Modalidad getModalidad() { return modalidad; }
 
-    // Roles permitidos / restricciones
-    @Override
-    protected boolean rolPermitido(TipoRol rol) {
-        return rol == TipoRol.INSTRUCTOR || rol == TipoRol.ORGANIZADOR;
-    }
-
+    // Restricciones al asignar roles (roles admitidos y topes: ReglasRol)
     @Override
     protected void validarRestriccionesRol(TipoRol rol, Persona persona) {
-        if (rol == TipoRol.INSTRUCTOR && contarRol(TipoRol.INSTRUCTOR) >= 1)
-            throw new IllegalStateException("El taller solo admite un Instructor.");
-        if (participantes.contains(persona))
+        if (estaInscripta(persona))
             throw new IllegalStateException("Ya es participante; no puede ser responsable.");
     }
-
-    @Override
-    public void validarRol() {
-        super.validarRol();
-        if (contarRol(TipoRol.INSTRUCTOR) < 1) {
-            throw new IllegalStateException("El taller debe tener un INSTRUCTOR.");
-        }
-    }
 }
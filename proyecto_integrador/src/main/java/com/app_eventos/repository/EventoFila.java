@@ -0,0 +1,12 @@
+package com.app_eventos.repository;
+
+import com.app_eventos.model.enums.EstadoEvento;
+import com.app_eventos.model.enums.TipoEvento;
+
+import java.time.LocalDateTime;
+
+// Fila plana de la tabla de eventos: sin entidades ni colecciones, con los responsables ya armados.
+// La entidad completa se carga aparte (Servicio.obtenerEvento) solo al editar.
+public record EventoFila(Long idEvento, String nombre, TipoEvento tipoEvento,
+                         LocalDateTime fechaInicio, LocalDateTime fechaFin,
+                         EstadoEvento estado, String responsables) {}
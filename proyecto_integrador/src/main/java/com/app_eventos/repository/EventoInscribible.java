@@ -0,0 +1,20 @@
+package com.app_eventos.repository;
+
+import com.app_eventos.model.enums.EstadoEvento;
+import com.app_eventos.model.enums.TipoEvento;
+
+import java.time.LocalDateTime;
+
+// Evento que admite inscripción (concierto, taller o ciclo de cine) proyectado para los combos
+// de inscripción: sin roles ni colecciones, con el cupo ya resuelto desde la tabla de la subclase.
+public record EventoInscribible(Long idEvento, String nombre, TipoEvento tipoEvento, EstadoEvento estado,
+                                LocalDateTime fechaInicio, LocalDateTime fechaFin,
+                                int cupoMaximo, int inscriptos) {
+
+    public int cupoRestante() { return Math.max(0, cupoMaximo - inscriptos); }
+
+    // Confirmado y sin terminar (el cupo lo valida la inscripción bajo bloqueo)
+    public boolean abiertoAInscripcion(LocalDateTime ahora) {
+        return estado == EstadoEvento.CONFIRMADO && fechaFin != null && fechaFin.isAfter(ahora);
+    }
+}
@@ -0,0 +1,12 @@
+package com.app_eventos.repository;
+
+// Contadores de la pantalla de inicio: eventos activos (no eliminados), confirmados sin terminar,
+// personas y las inscripciones vigentes.
+public record MetricasTablero(long eventos, long eventosActivos, long personas, long inscripciones) {
+
+    // Variación por altas y bajas, sin volver a consultar
+    public MetricasTablero mas(long dEventos, long dActivos, long dPersonas, long dInscripciones) {
+        return new MetricasTablero(eventos + dEventos, eventosActivos + dActivos,
+                                   personas + dPersonas, inscripciones + dInscripciones);
+    }
+}
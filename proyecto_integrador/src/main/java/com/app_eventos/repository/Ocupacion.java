@@ -0,0 +1,11 @@
+package com.app_eventos.repository;
+
+// Inscriptos y cupo de un evento con inscripción, para mostrar la ocupación sin cargar participantes
+public record Ocupacion(int inscriptos, int cupoMaximo) {
+
+    public int restante() { return Math.max(0, cupoMaximo - inscriptos); }
+
+    public Ocupacion mas(int delta) { return new Ocupacion(Math.max(0, inscriptos + delta), cupoMaximo); }
+
+    @Override public String toString() { return inscriptos + " / " + cupoMaximo; }
+}
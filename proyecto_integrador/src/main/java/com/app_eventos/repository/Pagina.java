@@ -0,0 +1,21 @@
+package com.app_eventos.repository;
+
+import java.util.List;
+
+// Página de un listado por keyset: la siguiente se pide a partir del último elemento.
+public record Pagina<T>(List<T> items, boolean hayMas) {
+
+    public Pagina {
+        items = List.copyOf(items);
+    }
+
+    public T ultimo() {
+        return items.isEmpty() ? null : items.get(items.size() - 1);
+    }
+
+    // Se consulta tamanio + 1 filas: la sobrante solo indica que hay más
+    static <T> Pagina<T> de(List<T> filas, int tamanio) {
+        boolean hayMas = filas.size() > tamanio;
+        return new Pagina<>(hayMas ? filas.subList(0, tamanio) : filas, hayMas);
+    }
+}
@@ -0,0 +1,11 @@
+package com.app_eventos.repository;
+
+import com.app_eventos.model.enums.EstadoEvento;
+
+import java.time.LocalDateTime;
+
+// Fila plana de la tabla de participantes: una inscripción activa con los datos del evento y de la persona.
+// El orden (fechaInicio, idEvento, apellido, nombre, idPersona) es único y sirve de keyset.
+public record ParticipanteFila(Long idEvento, String evento, EstadoEvento estadoEvento, LocalDateTime fechaInicio,
+                               Long idPersona, String nombre, String apellido,
+                               String dni, String telefono, String email) {}
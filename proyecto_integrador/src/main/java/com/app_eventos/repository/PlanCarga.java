@@ -0,0 +1,10 @@
+package com.app_eventos.repository;
+
+// Qué se carga junto con cada Evento en los listados. Cada caso de uso de Servicio
+// pide el mínimo que usa; los roles nunca se traen con join fetch (multiplica filas por rol).
+public enum PlanCarga {
+    // Solo el evento (tabla raíz + subclase). Los roles quedan sin inicializar.
+    BASICO,
+    // Evento + roles vigentes con su persona, por lotes: una consulta de roles cada 50 eventos
+    CON_ROLES
+}
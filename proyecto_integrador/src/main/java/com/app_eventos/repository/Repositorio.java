@@ -6,28 +6,112 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
 
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.jpa.AvailableHints;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import com.app_eventos.model.*;
 import com.app_eventos.model.enums.*;
+import com.app_eventos.model.interfaces.IEventoConInscripcion;
+import com.app_eventos.utils.JPAUtil;
 
-// Acceso a datos con JPA. Sin SQL nativo. Baja lógica con atributo 'activo'.
+// Acceso a datos con JPA. SQL nativo solo donde JPQL sobre la herencia JOINED o las colecciones
+// resulta ineficiente. Baja lógica con atributo 'activo'.
 public class Repositorio {
 
-    private static final EntityManagerFactory EMF =
-            Persistence.createEntityManagerFactory("app_eventosPU");
+    private static final Logger LOG = LoggerFactory.getLogger(Repositorio.class);
 
-    private EntityManager em() { return EMF.createEntityManager(); }
+    // Identifica a esta instancia en 'turno_mantenimiento' (diagnóstico)
+    private static final String INSTANCIA = ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    // Uso de cada plan de carga (ver cargarSegunPlan)
+    private static final Map<PlanCarga, LongAdder> USO_PLANES = new EnumMap<>(PlanCarga.class);
+    static {
+        for (PlanCarga plan : PlanCarga.values()) USO_PLANES.put(plan, new LongAdder());
+    }
+
+    // EMF y pool compartidos con el resto de la app
+    private EntityManager em() { return JPAUtil.em(); }
+
+    // Contexto de persistencia abierto por enUnaTransaccion en este hilo (null fuera de ella)
+    private static final ThreadLocal<EntityManager> EN_CURSO = new ThreadLocal<>();
 
     // Patrón Template Method para operaciones transaccionales
     private abstract static class UnidadDeTrabajo<T> {
         protected abstract T ejecutar(EntityManager em);
     }
 
+    // Varias operaciones del repositorio en un solo EntityManager y una sola transacción:
+    // se confirman juntas (un flush al final) o no se confirma ninguna.
+    // Anidada dentro de otra, se suma a la exterior.
+    public <T> T enUnaTransaccion(java.util.function.Supplier<T> operaciones) {
+        if (EN_CURSO.get() != null) return operaciones.get();
+        return ejecutarTransaccion(new UnidadDeTrabajo<T>() {
+            @Override protected T ejecutar(EntityManager em) {
+                EN_CURSO.set(em);
+                try {
+                    return operaciones.get();
+                } finally {
+                    EN_CURSO.remove();
+                }
+            }
+        });
+    }
+
+    public void enUnaTransaccion(Runnable operaciones) {
+        enUnaTransaccion(() -> { operaciones.run(); return null; });
+    }
+
     // Método de utilidad para ejecutar una transacción
+    // Dentro de enUnaTransaccion usa su EntityManager y deja el commit a ella.
     private <T> T ejecutarTransaccion(UnidadDeTrabajo<T> trabajo) {
+        EntityManager actual = EN_CURSO.get();
+        if (actual != null) return trabajo.ejecutar(actual);
+
+        EntityManager em = em();
+        EntityTransaction t = em.getTransaction();
+        try {
+            t.begin();
+            T out = trabajo.ejecutar(em);
+            t.commit();
+            return out;
+        } catch (RuntimeException ex) {
+            if (t.isActive()) t.rollback();
+            if (esConflictoDeVersion(ex))
+                throw new IllegalStateException("Los datos fueron modificados por otro usuario. Vuelva a cargarlos.", ex);
+            throw ex;
+        } finally {
+            em.close();
+        }
+    }
+
+    // @Version distinta al hacer merge o al confirmar (puede llegar envuelta en RollbackException)
+    private static boolean esConflictoDeVersion(Throwable ex) {
+        for (Throwable c = ex; c != null; c = c.getCause())
+            if (c instanceof OptimisticLockException) return true;
+        return false;
+    }
+
+    // Variante de solo lectura: la sesión no guarda snapshots ni hace dirty-checking,
+    // nunca hace flush y lo devuelto queda desacoplado al cerrar el EntityManager.
+    // Dentro de enUnaTransaccion lee en su contexto, viendo lo escrito y todavía no confirmado.
+    private <T> T ejecutarLectura(UnidadDeTrabajo<T> trabajo) {
+        EntityManager actual = EN_CURSO.get();
+        if (actual != null) return trabajo.ejecutar(actual);
+
         EntityManager em = em();
+        Session sesion = em.unwrap(Session.class);
+        sesion.setDefaultReadOnly(true);
+        sesion.setHibernateFlushMode(FlushMode.MANUAL);
         EntityTransaction t = em.getTransaction();
         try {
             t.begin();
@@ -42,20 +126,58 @@ public class Repositorio {
         }
     }
 
+    // Listados de catálogo (personas y películas activas): el resultado va a la cache de consultas.
+    // Hibernate lo invalida solo al escribir en la tabla (persist, merge o update JPQL) desde esta
+    // instancia; lo escrito por otra se ve al vencer la región (ehcache.xml).
+    private static <T> TypedQuery<T> desdeCache(TypedQuery<T> q) {
+        return q.setHint(AvailableHints.HINT_CACHEABLE, true)
+                .setHint(AvailableHints.HINT_CACHE_REGION, "catalogos");
+    }
+
     // Personas
     public ObservableList<Persona> listarPersonas() {
-        return ejecutarTransaccion(new UnidadDeTrabajo<ObservableList<Persona>>() {
+        return ejecutarLectura(new UnidadDeTrabajo<ObservableList<Persona>>() {
             @Override protected ObservableList<Persona> ejecutar(EntityManager em) {
                 return FXCollections.observableArrayList(
-                    em.createQuery(
+                    desdeCache(em.createQuery(
                         "select p from Persona p where p.activo = true order by p.apellido, p.nombre",
                         Persona.class
-                    ).getResultList()
+                    )).getResultList()
                 );
             }
         });
     }
 
+    // Página de personas por keyset (apellido, nombre, id): rango acotado sobre idx_persona_activo_apellido.
+    // 'despuesDe' es el último elemento de la página anterior (null para la primera).
+    public Pagina<Persona> listarPersonasPagina(String nombre, String dni, Persona despuesDe, int tamanio) {
+        return ejecutarLectura(new UnidadDeTrabajo<Pagina<Persona>>() {
+            @Override protected Pagina<Persona> ejecutar(EntityManager em) {
+                StringBuilder jpql = new StringBuilder("select p from Persona p where p.activo = true");
+                Map<String,Object> params = new HashMap<>();
+
+                String n = nombre == null ? "" : nombre.trim().toLowerCase();
+                String d = dni == null ? "" : dni.trim();
+                if (!n.isBlank()) { jpql.append(" and lower(concat(p.nombre, ' ', p.apellido)) like :n"); params.put("n", "%" + n + "%"); }
+                if (!d.isBlank()) { jpql.append(" and p.dni like :d"); params.put("d", "%" + d + "%"); }
+
+                if (despuesDe != null) {
+                    jpql.append(" and (p.apellido, p.nombre, p.idPersona) > (:ape, :nom, :id)");
+                    params.put("ape", despuesDe.getApellido());
+                    params.put("nom", despuesDe.getNombre());
+                    params.put("id", despuesDe.getIdPersona());
+                }
+                jpql.append(" order by p.apellido, p.nombre, p.idPersona");
+
+                TypedQuery<Persona> q = em.createQuery(jpql.toString(), Persona.class);
+                params.forEach(q::setParameter);
+                // Sin filtros de texto: las páginas se repiten y conviene cachearlas
+                if (n.isBlank() && d.isBlank()) desdeCache(q);
+                return Pagina.de(q.setMaxResults(tamanio + 1).getResultList(), tamanio);
+            }
+        });
+    }
+
     public Persona guardarPersona(Persona p){
         return ejecutarTransaccion(new UnidadDeTrabajo<Persona>() {
             @Override protected Persona ejecutar(EntityManager em) {
@@ -90,18 +212,40 @@ public class Repositorio {
 
     // Películas
     public ObservableList<Pelicula> listarPeliculas() {
-        return ejecutarTransaccion(new UnidadDeTrabajo<ObservableList<Pelicula>>() {
+        return ejecutarLectura(new UnidadDeTrabajo<ObservableList<Pelicula>>() {
             @Override protected ObservableList<Pelicula> ejecutar(EntityManager em) {
                 return FXCollections.observableArrayList(
-                    em.createQuery(
+                    desdeCache(em.createQuery(
                         "select p from Pelicula p where p.activo = true order by p.titulo",
                         Pelicula.class
-                    ).getResultList()
+                    )).getResultList()
                 );
             }
         });
     }
 
+    // Página de películas por keyset (titulo, id)
+    public Pagina<Pelicula> listarPeliculasPagina(Pelicula despuesDe, int tamanio) {
+        return ejecutarLectura(new UnidadDeTrabajo<Pagina<Pelicula>>() {
+            @Override protected Pagina<Pelicula> ejecutar(EntityManager em) {
+                TypedQuery<Pelicula> q;
+                if (despuesDe == null) {
+                    q = em.createQuery(
+                        "select p from Pelicula p where p.activo = true order by p.titulo, p.idPelicula",
+                        Pelicula.class);
+                } else {
+                    q = em.createQuery(
+                        "select p from Pelicula p where p.activo = true " +
+                        "and (p.titulo, p.idPelicula) > (:titulo, :id) " +
+                        "order by p.titulo, p.idPelicula", Pelicula.class)
+                      .setParameter("titulo", despuesDe.getTitulo())
+                      .setParameter("id", despuesDe.getIdPelicula());
+                }
+                return Pagina.de(desdeCache(q).setMaxResults(tamanio + 1).getResultList(), tamanio);
+            }
+        });
+    }
+
     public Pelicula guardarPelicula(Pelicula p){
         return ejecutarTransaccion(new UnidadDeTrabajo<Pelicula>() {
             @Override protected Pelicula ejecutar(EntityManager em) {
@@ -136,7 +280,7 @@ public class Repositorio {
 
     // CicloCine y películas
     public CicloCine findCicloCineConPeliculas(Long id) {
-        return ejecutarTransaccion(new UnidadDeTrabajo<CicloCine>() {
+        return ejecutarLectura(new UnidadDeTrabajo<CicloCine>() {
             @Override protected CicloCine ejecutar(EntityManager em) {
                 return em.createQuery(
                         "select c from CicloCine c left join fetch c.peliculas where c.idEvento = :id",
@@ -147,14 +291,14 @@ public class Repositorio {
         });
     }
 
-    // Sincroniza la colección. El ORM actualiza la join-table.
-    public CicloCine actualizarPeliculasCiclo(Long idCiclo, java.util.List<Pelicula> nuevas) {
-        return ejecutarTransaccion(new UnidadDeTrabajo<CicloCine>() {
-            @Override protected CicloCine ejecutar(EntityManager em) {
-                CicloCine ciclo = em.find(CicloCine.class, idCiclo);
-                if (ciclo == null) throw new IllegalArgumentException("Ciclo no encontrado: " + idCiclo);
-
-                ciclo.getPeliculas().size(); // inicializar
+    // Deja al ciclo exactamente con las películas indicadas (activas). No carga la colección:
+    // la diferencia se resuelve en la base con un DELETE y un INSERT ... SELECT por conjunto,
+    // así que solo se tocan las filas de ciclo_cine_peliculas que cambian.
+    public void actualizarPeliculasCiclo(Long idCiclo, java.util.List<Pelicula> nuevas) {
+        ejecutarTransaccion(new UnidadDeTrabajo<Void>() {
+            @Override protected Void ejecutar(EntityManager em) {
+                if (em.find(CicloCine.class, idCiclo) == null)
+                    throw new IllegalArgumentException("Ciclo no encontrado: " + idCiclo);
 
                 Set<Long> nuevasIds = new HashSet<>();
                 if (nuevas != null) {
@@ -162,23 +306,38 @@ public class Repositorio {
                         if (p != null && p.getIdPelicula() != null && p.isActivo()) nuevasIds.add(p.getIdPelicula());
                     }
                 }
-                Set<Pelicula> nuevasManaged = new HashSet<>();
-                for (Long id : nuevasIds) nuevasManaged.add(em.getReference(Pelicula.class, id));
-
-                ciclo.getPeliculas().retainAll(nuevasManaged);
-                for (Pelicula pm : nuevasManaged)
-                    if (!ciclo.getPeliculas().contains(pm)) ciclo.getPeliculas().add(pm);
-
-                em.flush();
-                return em.createQuery(
-                        "select c from CicloCine c left join fetch c.peliculas where c.idEvento = :id",
-                        CicloCine.class)
-                    .setParameter("id", idCiclo)
-                    .getSingleResult();
+                sincronizarPeliculasCiclo(em, idCiclo, nuevasIds);
+                return null;
             }
         });
     }
 
+    // Quitadas: las filas del ciclo fuera del conjunto. Agregadas: las del conjunto que todavía no están.
+    // La colección CicloCine.peliculas de la sesión no se toca; el query space invalida lo cacheado de la tabla.
+    private static void sincronizarPeliculasCiclo(EntityManager em, Long idCiclo, Set<Long> peliculasIds) {
+        NativeQuery<?> quitar = em.createNativeQuery(
+                "delete from ciclo_cine_peliculas where ciclo_id = :id" +
+                (peliculasIds.isEmpty() ? "" : " and pelicula_id not in (:ids)"))
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace("ciclo_cine_peliculas")
+            .setParameter("id", idCiclo);
+        if (!peliculasIds.isEmpty()) quitar.setParameter("ids", peliculasIds);
+        quitar.executeUpdate();
+
+        if (peliculasIds.isEmpty()) return;
+        em.createNativeQuery(
+                "insert into ciclo_cine_peliculas (ciclo_id, pelicula_id) " +
+                "select :id, p.idPelicula from pelicula p " +
+                "where p.idPelicula in (:ids) and p.activo = true " +
+                "and not exists (select 1 from ciclo_cine_peliculas c " +
+                "                where c.ciclo_id = :id and c.pelicula_id = p.idPelicula)")
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace("ciclo_cine_peliculas")
+            .setParameter("id", idCiclo)
+            .setParameter("ids", peliculasIds)
+            .executeUpdate();
+    }
+
     // Métodos privados de apoyo
     private boolean personaTieneRolEnEvento(EntityManager em, long idEvento, long idPersona){
         Long cnt = em.createQuery(
@@ -192,73 +351,49 @@ public class Repositorio {
     }
 
     private boolean esParticipanteDeEvento(EntityManager em, Evento ev, long idPersona){
-        Long idEv = ev.getIdEvento();
-        if (ev instanceof Concierto){
-            Long cnt = em.createQuery(
-                "select count(p) from Concierto c join c.participantes p " +
-                "where c.idEvento = :id and p.idPersona = :idp and p.activo = true", Long.class)
-                .setParameter("id", idEv)
-                .setParameter("idp", idPersona)
-                .getSingleResult();
-            return cnt != null && cnt > 0;
-        } else if (ev instanceof Taller){
-            Long cnt = em.createQuery(
-                "select count(p) from Taller t join t.participantes p " +
-                "where t.idEvento = :id and p.idPersona = :idp and p.activo = true", Long.class)
-                .setParameter("id", idEv)
-                .setParameter("idp", idPersona)
-                .getSingleResult();
-            return cnt != null && cnt > 0;
-        } else if (ev instanceof CicloCine){
-            Long cnt = em.createQuery(
-                "select count(p) from CicloCine c join c.participantes p " +
-                "where c.idEvento = :id and p.idPersona = :idp and p.activo = true", Long.class)
-                .setParameter("id", idEv)
-                .setParameter("idp", idPersona)
-                .getSingleResult();
-            return cnt != null && cnt > 0;
-        }
-        return false;
+        Long cnt = em.createQuery(
+            "select count(i) from Inscripcion i " +
+            "where i.evento.idEvento = :id and i.persona.idPersona = :idp and i.activo = true and i.persona.activo = true",
+            Long.class)
+            .setParameter("id", ev.getIdEvento())
+            .setParameter("idp", idPersona)
+            .getSingleResult();
+        return cnt != null && cnt > 0;
     }
 
     private void validarReglasDeRol(EntityManager em, Evento ev, long idPersona, TipoRol rol){
-        boolean permitido =
-            (ev instanceof Concierto && (rol==TipoRol.ORGANIZADOR || rol==TipoRol.ARTISTA)) ||
-            (ev instanceof Taller    && (rol==TipoRol.ORGANIZADOR || rol==TipoRol.INSTRUCTOR)) ||
-            (ev instanceof Exposicion&& (rol==TipoRol.ORGANIZADOR || rol==TipoRol.CURADOR)) ||
-            (ev instanceof Feria     && (rol==TipoRol.ORGANIZADOR)) ||
-            (ev instanceof CicloCine && (rol==TipoRol.ORGANIZADOR));
-        if (!permitido) throw new IllegalArgumentException("Rol "+rol+" no permitido para el evento.");
+        if (!ReglasRol.permitido(ev.getTipoEvento(), rol))
+            throw new IllegalArgumentException("Rol "+rol+" no permitido para el evento.");
 
         if (!ev.isActivo()) throw new IllegalStateException("El evento está inactivo.");
         Persona per = em.find(Persona.class, idPersona);
         if (per == null || !per.isActivo()) throw new IllegalStateException("La persona está inactiva.");
 
-        if (ev instanceof Taller){
-            Long cantInst = em.createQuery(
-                "select count(r) from RolEvento r where r.evento.idEvento=:ide and r.rol=:rol and r.activo=true",
-                Long.class)
-                .setParameter("ide", ev.getIdEvento())
-                .setParameter("rol", TipoRol.INSTRUCTOR)
-                .getSingleResult();
-            if (rol == TipoRol.INSTRUCTOR && cantInst > 0)
-                throw new IllegalStateException("El taller ya tiene un INSTRUCTOR.");
-        }
-        if (ev instanceof Exposicion){
-            Long cantCur = em.createQuery(
-                "select count(r) from RolEvento r where r.evento.idEvento=:ide and r.rol=:rol and r.activo=true",
-                Long.class)
-                .setParameter("ide", ev.getIdEvento())
-                .setParameter("rol", TipoRol.CURADOR)
-                .getSingleResult();
-            if (rol == TipoRol.CURADOR && cantCur > 0)
-                throw new IllegalStateException("La exposición ya tiene un CURADOR.");
-        }
+        // Topes por rol (INSTRUCTOR del taller, CURADOR de la exposición) contra los conteos de la base
+        Long idEv = ev.getIdEvento();
+        String rechazo = ReglasRol.motivoRechazo(ev.getTipoEvento(), rol,
+            conteoRoles(em, List.of(idEv)).getOrDefault(idEv, new EnumMap<>(TipoRol.class)));
+        if (rechazo != null) throw new IllegalStateException(rechazo);
 
         if (esParticipanteDeEvento(em, ev, idPersona))
             throw new IllegalStateException("La persona ya está inscripta como participante en este evento.");
     }
 
+    // Roles activos por evento y tipo, en una consulta agrupada (entrada para ReglasRol)
+    private static Map<Long, EnumMap<TipoRol, Integer>> conteoRoles(EntityManager em, Collection<Long> idsEventos) {
+        Map<Long, EnumMap<TipoRol, Integer>> out = new HashMap<>();
+        if (idsEventos.isEmpty()) return out;
+        for (Object[] f : em.createQuery(
+                "select r.evento.idEvento, r.rol, count(r) from RolEvento r " +
+                "where r.evento.idEvento in :ids and r.activo = true group by r.evento.idEvento, r.rol", Object[].class)
+                .setParameter("ids", idsEventos)
+                .getResultList()) {
+            out.computeIfAbsent((Long) f[0], _ -> new EnumMap<>(TipoRol.class))
+               .put((TipoRol) f[1], ((Long) f[2]).intValue());
+        }
+        return out;
+    }
+
     // Roles
     public RolEvento asignarRol(Evento evento, Persona persona, TipoRol rol) {
         return ejecutarTransaccion(new UnidadDeTrabajo<RolEvento>() {
@@ -266,7 +401,7 @@ public class Repositorio {
                 Evento ev = em.find(Evento.class, evento.getIdEvento());
                 Persona pe = em.getReference(Persona.class, persona.getIdPersona());
 
-                if (!ev.isActivo() || !pe.isActivo())
+                if (!ev.isActivo() || !personaActiva(em, pe.getIdPersona()))
                     throw new IllegalStateException("Evento o persona inactivos.");
 
                 long idEv = ev.getIdEvento();
@@ -319,7 +454,7 @@ public class Repositorio {
     }
 
     public ObservableList<RolEvento> obtenerRolesDeEvento(Evento evento) {
-        return ejecutarTransaccion(new UnidadDeTrabajo<ObservableList<RolEvento>>() {
+        return ejecutarLectura(new UnidadDeTrabajo<ObservableList<RolEvento>>() {
             @Override protected ObservableList<RolEvento> ejecutar(EntityManager em) {
                 return FXCollections.observableArrayList(
                     em.createQuery(
@@ -336,7 +471,7 @@ public class Repositorio {
     }
 
     public ObservableList<RolEvento> filtrarRoles(String ne, String np, String dni) {
-        return ejecutarTransaccion(new UnidadDeTrabajo<ObservableList<RolEvento>>() {
+        return ejecutarLectura(new UnidadDeTrabajo<ObservableList<RolEvento>>() {
             @Override protected ObservableList<RolEvento> ejecutar(EntityManager em) {
                 StringBuilder jpql = new StringBuilder(
                     "select r from RolEvento r join r.evento e join r.persona p where r.activo = true and e.activo = true and p.activo = true");
@@ -353,14 +488,18 @@ public class Repositorio {
     }
 
     // Participantes
-    public void agregarParticipante(Evento evento, Persona persona) {
+    // La fila del evento se bloquea (SELECT ... FOR UPDATE) mientras se valida y actualiza el contador:
+    // dos puestos que inscriben a la vez quedan serializados y nunca superan el cupo.
+    public void agregarParticipante(Long idEvento, Persona persona) {
         ejecutarTransaccion(new UnidadDeTrabajo<Void>() {
             @Override protected Void ejecutar(EntityManager em) {
-                Evento e = em.find(Evento.class, evento.getIdEvento());
+                Evento e = bloquearEvento(em, idEvento);
                 Persona p = em.getReference(Persona.class, persona.getIdPersona());
 
-                if (!e.isActivo() || !p.isActivo())
+                if (e == null || !e.isActivo() || !personaActiva(em, p.getIdPersona()))
                     throw new IllegalStateException("Evento o persona inactivos.");
+                if (!(e instanceof IEventoConInscripcion conInscripcion))
+                    throw new IllegalArgumentException("El evento no admite inscripción.");
 
                 long idEv = e.getIdEvento();
                 long idPe = p.getIdPersona();
@@ -372,118 +511,379 @@ public class Repositorio {
                 if (e.getEstado() != EstadoEvento.CONFIRMADO || now.isAfter(e.getFechaFin()))
                     throw new IllegalStateException("No se permite inscribir para este evento.");
 
-                if (e instanceof Concierto c) {
-                    Long cnt = em.createQuery(
-                        "select count(p) from Concierto c join c.participantes p " +
-                        "where c.idEvento=:id and p.idPersona=:idp and p.activo = true", Long.class)
-                        .setParameter("id", idEv)
-                        .setParameter("idp", idPe)
-                        .getSingleResult();
-                    if (cnt != null && cnt > 0) throw new IllegalArgumentException("La persona ya está inscripta.");
-                    Long inscritos = em.createQuery(
-                        "select count(p) from Concierto c join c.participantes p where c.idEvento=:id and p.activo = true", Long.class)
-                        .setParameter("id", idEv)
-                        .getSingleResult();
-                    if (inscritos >= c.getCupoMaximo())
-                        throw new IllegalStateException("Cupo completo.");
-                    c.getParticipantes().add(p);
-
-                } else if (e instanceof Taller t) {
-                    Long cnt = em.createQuery(
-                        "select count(p) from Taller t join t.participantes p " +
-                        "where t.idEvento=:id and p.idPersona=:idp and p.activo = true", Long.class)
-                        .setParameter("id", idEv)
-                        .setParameter("idp", idPe)
-                        .getSingleResult();
-                    if (cnt != null && cnt > 0) throw new IllegalArgumentException("La persona ya está inscripta.");
-                    Long inscritos = em.createQuery(
-                        "select count(p) from Taller t join t.participantes p where t.idEvento=:id and p.activo = true", Long.class)
-                        .setParameter("id", idEv)
-                        .getSingleResult();
-                    if (inscritos >= t.getCupoMaximo())
-                        throw new IllegalStateException("Cupo completo.");
-                    t.getParticipantes().add(p);
-
-                } else if (e instanceof CicloCine cc) {
-                    Long cnt = em.createQuery(
-                        "select count(p) from CicloCine c join c.participantes p " +
-                        "where c.idEvento=:id and p.idPersona=:idp and p.activo = true", Long.class)
-                        .setParameter("id", idEv)
-                        .setParameter("idp", idPe)
-                        .getSingleResult();
-                    if (cnt != null && cnt > 0) throw new IllegalArgumentException("La persona ya está inscripta.");
-                    Long inscritos = em.createQuery(
-                        "select count(p) from CicloCine c join c.participantes p where c.idEvento=:id and p.activo = true", Long.class)
-                        .setParameter("id", idEv)
-                        .getSingleResult();
-                    if (inscritos >= cc.getCupoMaximo())
-                        throw new IllegalStateException("Cupo completo.");
-                    cc.getParticipantes().add(p);
+                // Búsqueda por la clave (evento, persona): detecta duplicado o baja previa a reactivar
+                Inscripcion existente = em.createQuery(
+                    "select i from Inscripcion i where i.evento.idEvento = :id and i.persona.idPersona = :idp",
+                    Inscripcion.class)
+                    .setParameter("id", idEv)
+                    .setParameter("idp", idPe)
+                    .getResultStream()
+                    .findFirst()
+                    .orElse(null);
+                if (existente != null && existente.isActivo())
+                    throw new IllegalArgumentException("La persona ya está inscripta.");
+
+                if (e.getInscriptos() >= conInscripcion.getCupoMaximo())
+                    throw new IllegalStateException("Cupo completo.");
+
+                if (existente != null) existente.reactivar();
+                else em.persist(new Inscripcion(e, p));
+                ajustarInscriptos(em, idEv, 1);
+                return null;
+            }
+        });
+    }
 
-                } else {
+    // Baja lógica de la inscripción
+    // true si había una inscripción activa para dar de baja
+    public boolean quitarParticipante(Long idEvento, Long idPersona) {
+        return ejecutarTransaccion(new UnidadDeTrabajo<Boolean>() {
+            @Override protected Boolean ejecutar(EntityManager em) {
+                Evento e = bloquearEvento(em, idEvento);
+                if (e == null) return false;
+                if (!(e instanceof IEventoConInscripcion))
                     throw new IllegalArgumentException("El evento no admite inscripción.");
+                int bajas = em.createQuery(
+                    "update Inscripcion i set i.activo = false " +
+                    "where i.evento.idEvento = :id and i.persona.idPersona = :idp and i.activo = true")
+                  .setParameter("id", e.getIdEvento())
+                  .setParameter("idp", idPersona)
+                  .executeUpdate();
+                if (bajas > 0) ajustarInscriptos(em, e.getIdEvento(), -bajas);
+                return bajas > 0;
+            }
+        });
+    }
+
+    // 'activo' leído de la base y no de la cache de segundo nivel: esa cache es local a cada instancia
+    // y no se entera de una baja hecha desde otro puesto (ver ehcache.xml)
+    private static boolean personaActiva(EntityManager em, Long idPersona) {
+        return !em.createQuery("select p.idPersona from Persona p where p.idPersona = :id and p.activo = true", Long.class)
+                  .setParameter("id", idPersona)
+                  .getResultList()
+                  .isEmpty();
+    }
+
+    // Bloquea la fila del evento y recién después lo carga. Con find(PESSIMISTIC_WRITE) sobre la
+    // herencia JOINED, PostgreSQL carga la entidad y bloquea en un select posterior (follow-on
+    // locking): inscriptos y activo quedaban leídos antes del bloqueo y se podía pasar el cupo.
+    private static Evento bloquearEvento(EntityManager em, Long idEvento) {
+        em.createNativeQuery("select idEvento from evento where idEvento = :id for update")
+          .setParameter("id", idEvento)
+          .getResultList();
+        return em.find(Evento.class, idEvento);
+    }
+
+    // Único lugar que escribe el contador (la columna no es updatable): UPDATE relativo, sin tocar
+    // la versión del evento. Se llama con la fila del evento ya bloqueada.
+    // Nativo: el mismo UPDATE en JPQL, por la herencia JOINED, pasa por una tabla temporal cuyo DDL
+    // en H2 confirma la transacción y suelta el bloqueo.
+    private static void ajustarInscriptos(EntityManager em, Long idEvento, int delta) {
+        em.createNativeQuery("update evento set inscriptos = inscriptos + :delta where idEvento = :id")
+          .unwrap(NativeQuery.class)
+          .addSynchronizedEntityClass(Evento.class)
+          .setParameter("delta", delta)
+          .setParameter("id", idEvento)
+          .executeUpdate();
+    }
+
+    public ObservableList<Persona> obtenerParticipantes(Long idEvento) {
+        return ejecutarLectura(new UnidadDeTrabajo<ObservableList<Persona>>() {
+            @Override protected ObservableList<Persona> ejecutar(EntityManager em) {
+                return FXCollections.observableArrayList(
+                    em.createQuery(
+                        "select p from Inscripcion i join i.persona p " +
+                        "where i.evento.idEvento = :id and i.activo = true and p.activo = true " +
+                        "order by p.apellido, p.nombre", Persona.class)
+                      .setParameter("id", idEvento)
+                      .getResultList());
+            }
+        });
+    }
+
+    // Ocupación de los eventos activos con inscripción que no terminaron, en una sola consulta.
+    // 'inscriptos' es el contador que agregarParticipante/quitarParticipante mantienen bajo bloqueo,
+    // así que no hace falta agrupar las inscripciones.
+    @SuppressWarnings("unchecked")
+    public Map<Long, Ocupacion> ocupacionEventos() {
+        return ejecutarLectura(new UnidadDeTrabajo<Map<Long, Ocupacion>>() {
+            @Override protected Map<Long, Ocupacion> ejecutar(EntityManager em) {
+                NativeQuery<Object[]> q = em.createNativeQuery(
+                    "select e.idEvento as id, e.inscriptos as inscriptos, " +
+                    "       coalesce(c.cupoMaximo, t.cupoMaximo, cc.cupoMaximo) as cupo " +
+                    "from evento e " +
+                    "left join concierto c on c.idEvento = e.idEvento " +
+                    "left join taller t on t.idEvento = e.idEvento " +
+                    "left join cicloCine cc on cc.idEvento = e.idEvento " +
+                    "where e.activo = true and e.tipoEvento in ('CONCIERTO', 'TALLER', 'CICLO_CINE') " +
+                    "and e.fechaFin > localtimestamp")
+                  .unwrap(NativeQuery.class)
+                  .addScalar("id", Long.class)
+                  .addScalar("inscriptos", Integer.class)
+                  .addScalar("cupo", Integer.class);
+
+                Map<Long, Ocupacion> out = new HashMap<>();
+                for (Object[] f : q.getResultList()) out.put((Long) f[0], new Ocupacion((Integer) f[1], (Integer) f[2]));
+                return out;
+            }
+        });
+    }
+
+    // Página de inscripciones activas de todos los eventos (o de uno), filtradas por DNI y nombre en la base.
+    // Keyset sobre (fechaInicio, idEvento, apellido, nombre, idPersona): orden estable entre páginas.
+    public Pagina<ParticipanteFila> buscarParticipantes(Long idEvento, String dni, String nombre,
+                                                        ParticipanteFila despuesDe, int tamanio) {
+        return ejecutarLectura(new UnidadDeTrabajo<Pagina<ParticipanteFila>>() {
+            @Override protected Pagina<ParticipanteFila> ejecutar(EntityManager em) {
+                StringBuilder jpql = new StringBuilder(
+                    "select new com.app_eventos.repository.ParticipanteFila(" +
+                    "e.idEvento, e.nombre, e.estado, e.fechaInicio, " +
+                    "p.idPersona, p.nombre, p.apellido, p.dni, p.telefono, p.email) ");
+                Map<String,Object> params = new HashMap<>();
+                filtrosParticipantes(jpql, params, idEvento, dni, nombre);
+
+                if (despuesDe != null) {
+                    jpql.append(" and (e.fechaInicio, e.idEvento, p.apellido, p.nombre, p.idPersona)" +
+                                " > (:fIni, :idEv, :ape, :nom, :idp)");
+                    params.put("fIni", despuesDe.fechaInicio());
+                    params.put("idEv", despuesDe.idEvento());
+                    params.put("ape", despuesDe.apellido());
+                    params.put("nom", despuesDe.nombre());
+                    params.put("idp", despuesDe.idPersona());
                 }
-                return null;
+                jpql.append(" order by e.fechaInicio, e.idEvento, p.apellido, p.nombre, p.idPersona");
+
+                TypedQuery<ParticipanteFila> q = em.createQuery(jpql.toString(), ParticipanteFila.class);
+                params.forEach(q::setParameter);
+                return Pagina.de(q.setMaxResults(tamanio + 1).getResultList(), tamanio);
             }
         });
     }
 
-    public void quitarParticipante(Evento evento, Persona persona) {
-        ejecutarTransaccion(new UnidadDeTrabajo<Void>() {
-            @Override protected Void ejecutar(EntityManager em) {
-                Evento e = em.find(Evento.class, evento.getIdEvento());
-                Persona p = em.getReference(Persona.class, persona.getIdPersona());
-                if (e instanceof Concierto c)        c.getParticipantes().remove(p);
-                else if (e instanceof Taller t)      t.getParticipantes().remove(p);
-                else if (e instanceof CicloCine cc)  cc.getParticipantes().remove(p);
-                else throw new IllegalArgumentException("El evento no admite inscripción.");
-                return null;
+    // Total con los mismos filtros que buscarParticipantes
+    public long contarParticipantes(Long idEvento, String dni, String nombre) {
+        return ejecutarLectura(new UnidadDeTrabajo<Long>() {
+            @Override protected Long ejecutar(EntityManager em) {
+                StringBuilder jpql = new StringBuilder("select count(i) ");
+                Map<String,Object> params = new HashMap<>();
+                filtrosParticipantes(jpql, params, idEvento, dni, nombre);
+
+                TypedQuery<Long> q = em.createQuery(jpql.toString(), Long.class);
+                params.forEach(q::setParameter);
+                return q.getSingleResult();
             }
         });
     }
 
-    public ObservableList<Persona> obtenerParticipantes(Evento evento) {
-        return ejecutarTransaccion(new UnidadDeTrabajo<ObservableList<Persona>>() {
-            @Override protected ObservableList<Persona> ejecutar(EntityManager em) {
-                Long id = evento.getIdEvento();
-                if (evento instanceof Concierto)
-                    return FXCollections.observableArrayList(
-                        em.createQuery(
-                            "select p from Concierto c join c.participantes p " +
-                            "where c.idEvento=:id and p.activo = true order by p.apellido, p.nombre", Persona.class)
-                          .setParameter("id", id).getResultList());
-                else if (evento instanceof Taller)
-                    return FXCollections.observableArrayList(
-                        em.createQuery(
-                            "select p from Taller t join t.participantes p " +
-                            "where t.idEvento=:id and p.activo = true order by p.apellido, p.nombre", Persona.class)
-                          .setParameter("id", id).getResultList());
-                else if (evento instanceof CicloCine)
-                    return FXCollections.observableArrayList(
-                        em.createQuery(
-                            "select p from CicloCine c join c.participantes p " +
-                            "where c.idEvento=:id and p.activo = true order by p.apellido, p.nombre", Persona.class)
-                          .setParameter("id", id).getResultList());
-                return FXCollections.observableArrayList();
+    private static void filtrosParticipantes(StringBuilder jpql, Map<String,Object> params,
+                                             Long idEvento, String dni, String nombre) {
+        jpql.append("from Inscripcion i join i.evento e join i.persona p " +
+                    "where i.activo = true and e.activo = true and p.activo = true");
+
+        String n = nombre == null ? "" : nombre.trim().toLowerCase();
+        String d = dni == null ? "" : dni.trim();
+        if (idEvento != null) { jpql.append(" and e.idEvento = :id"); params.put("id", idEvento); }
+        if (!d.isBlank()) { jpql.append(" and p.dni like :d"); params.put("d", "%" + d + "%"); }
+        if (!n.isBlank()) { jpql.append(" and lower(concat(p.nombre, ' ', p.apellido)) like :n"); params.put("n", "%" + n + "%"); }
+    }
+
+    // Eventos que admiten inscripción, filtrados en la consulta por tipo (y, si 'ahora' no es null,
+    // solo confirmados que terminan después). El cupo sale de la tabla de cada subclase.
+    // SQL nativo: type(e)/treat sobre la raíz JOINED une las cinco subclases con CASE anidados;
+    // acá se filtra por la columna tipoEvento y solo se unen las tres tablas con cupo.
+    @SuppressWarnings("unchecked")
+    public List<EventoInscribible> eventosConInscripcion(LocalDateTime ahora) {
+        return ejecutarLectura(new UnidadDeTrabajo<List<EventoInscribible>>() {
+            @Override protected List<EventoInscribible> ejecutar(EntityManager em) {
+                String sql =
+                    "select e.idEvento as id, e.nombre as nombre, e.tipoEvento as tipo, e.estado as estado, " +
+                    "       e.fechaInicio as ini, e.fechaFin as fin, " +
+                    "       coalesce(c.cupoMaximo, t.cupoMaximo, cc.cupoMaximo) as cupo, e.inscriptos as inscriptos " +
+                    "from evento e " +
+                    "left join concierto c on c.idEvento = e.idEvento " +
+                    "left join taller t on t.idEvento = e.idEvento " +
+                    "left join cicloCine cc on cc.idEvento = e.idEvento " +
+                    "where e.activo = true and e.tipoEvento in ('CONCIERTO', 'TALLER', 'CICLO_CINE')" +
+                    (ahora == null ? "" : " and e.estado = 'CONFIRMADO' and e.fechaFin > :ahora") +
+                    " order by e.fechaInicio, e.idEvento";
+                NativeQuery<Object[]> q = em.createNativeQuery(sql).unwrap(NativeQuery.class)
+                    .addScalar("id", Long.class)
+                    .addScalar("nombre", String.class)
+                    .addScalar("tipo", String.class)
+                    .addScalar("estado", String.class)
+                    .addScalar("ini", LocalDateTime.class)
+                    .addScalar("fin", LocalDateTime.class)
+                    .addScalar("cupo", Integer.class)
+                    .addScalar("inscriptos", Integer.class);
+                if (ahora != null) q.setParameter("ahora", ahora);
+
+                List<EventoInscribible> out = new ArrayList<>();
+                for (Object[] f : q.getResultList()) {
+                    out.add(new EventoInscribible((Long) f[0], (String) f[1],
+                        TipoEvento.valueOf((String) f[2]), EstadoEvento.valueOf((String) f[3]),
+                        (LocalDateTime) f[4], (LocalDateTime) f[5], (Integer) f[6], (Integer) f[7]));
+                }
+                return out;
+            }
+        });
+    }
+
+    // Métricas del tablero
+
+    // Los cuatro conteos de la pantalla de inicio en un solo viaje a la base.
+    // Solo cuenta filas: no instancia entidades ni toca las tablas de las subclases de evento.
+    public MetricasTablero metricasTablero(LocalDateTime ahora) {
+        return ejecutarLectura(new UnidadDeTrabajo<MetricasTablero>() {
+            @Override protected MetricasTablero ejecutar(EntityManager em) {
+                Object[] fila = (Object[]) em.createNativeQuery(
+                    "select " +
+                    "(select count(*) from evento e where e.activo = true), " +
+                    "(select count(*) from evento e where e.activo = true and e.estado = 'CONFIRMADO' " +
+                    "  and e.fechaFin > :ahora), " +
+                    "(select count(*) from persona p where p.activo = true), " +
+                    "(select count(*) from inscripcion i " +
+                    "  join evento e on e.idEvento = i.evento_id " +
+                    "  join persona p on p.idPersona = i.persona_id " +
+                    "  where i.activo = true and e.activo = true and p.activo = true)")
+                  .setParameter("ahora", ahora)
+                  .getSingleResult();
+                return new MetricasTablero(((Number) fila[0]).longValue(), ((Number) fila[1]).longValue(),
+                                           ((Number) fila[2]).longValue(), ((Number) fila[3]).longValue());
             }
         });
     }
 
     // Eventos
-    public List<Evento> listarEventos() {
-        return ejecutarTransaccion(new UnidadDeTrabajo<List<Evento>>() {
+    public List<Evento> listarEventos(PlanCarga plan) {
+        return ejecutarLectura(new UnidadDeTrabajo<List<Evento>>() {
             @Override protected List<Evento> ejecutar(EntityManager em) {
-                return em.createQuery(
-                    "select distinct e from Evento e " +
-                    "left join fetch e.roles r " +
-                    "left join fetch r.persona p " +
-                    "where e.activo = true and (r is null or r.activo = true) " +
-                    "order by e.fechaInicio", Evento.class
+                List<Evento> eventos = em.createQuery(
+                    "select e from Evento e where e.activo = true order by e.fechaInicio", Evento.class
                 ).getResultList();
+                return cargarSegunPlan("listarEventos", plan, eventos);
             }
         });
     }
 
+    // Transiciones automáticas vencidas, por conjunto (dos UPDATE en una transacción):
+    // EJECUCIÓN -> FINALIZADO al terminar y CONFIRMADO -> EJECUCIÓN al empezar si cumple los roles
+    // obligatorios (ReglasRol, las mismas que usa Evento.validarRol). Un confirmado que ya terminó
+    // (app cerrada durante todo el evento) pasa directo a FINALIZADO.
+    // Varias instancias comparten la base: solo la primera que toma el 'turno' (el límite que
+    // venció) aplica los cambios; para las demás devuelve -1 y no escribe nada más.
+    // "Ahora" es siempre la hora de la base (localtimestamp), no el reloj de cada cliente: el turno
+    // tomado queda registrado como la hora de la base y un turno adelantado no marca como procesado
+    // un instante futuro; los UPDATE solo cambian lo que ya venció para la base.
+    // SQL nativo sobre 'evento': el UPDATE JPQL de la raíz JOINED pasa por una tabla temporal.
+    public int aplicarTransiciones(LocalDateTime turno) {
+        return ejecutarTransaccion(new UnidadDeTrabajo<Integer>() {
+            @Override protected Integer ejecutar(EntityManager em) {
+                int tomado = em.createNativeQuery(
+                    "update turno_mantenimiento set procesado_hasta = localtimestamp, titular = :titular " +
+                    "where tarea = 'estados' and procesado_hasta < least(:turno, localtimestamp)")
+                  .unwrap(NativeQuery.class)
+                  .addSynchronizedQuerySpace("turno_mantenimiento")
+                  .setParameter("turno", turno)
+                  .setParameter("titular", INSTANCIA)
+                  .executeUpdate();
+                if (tomado == 0) return -1;
+
+                // Se incrementa la versión: una edición abierta sobre el evento ya no puede pisar el estado
+                int finalizados = transicion(em,
+                    "update evento e set estado = 'FINALIZADO', version = version + 1 " +
+                    "where e.activo = true and e.fechaFin <= localtimestamp " +
+                    "and (e.estado = 'EJECUCIÓN' or (e.estado = 'CONFIRMADO' and " + ROLES_CUMPLIDOS + "))");
+                int iniciados = transicion(em,
+                    "update evento e set estado = 'EJECUCIÓN', version = version + 1 " +
+                    "where e.activo = true and e.estado = 'CONFIRMADO' " +
+                    "and e.fechaInicio <= localtimestamp and e.fechaFin > localtimestamp and " + ROLES_CUMPLIDOS);
+                return finalizados + iniciados;
+            }
+        });
+    }
+
+    // Roles obligatorios de ReglasRol traducidos a SQL: un exists por rol, limitado a los tipos que lo exigen
+    private static final String ROLES_CUMPLIDOS = rolesCumplidosSql();
+
+    private static String rolesCumplidosSql() {
+        List<String> condiciones = new ArrayList<>();
+        for (TipoRol rol : TipoRol.values()) {
+            EnumSet<TipoEvento> tipos = ReglasRol.queRequieren(rol);
+            if (tipos.isEmpty()) continue;
+            if (tipos.size() == TipoEvento.values().length) { condiciones.add(tieneRol(rol)); continue; }
+            StringJoiner enTipos = new StringJoiner("', '", "('", "')");
+            tipos.forEach(t -> enTipos.add(t.name()));
+            condiciones.add("(e.tipoEvento not in " + enTipos + " or " + tieneRol(rol) + ")");
+        }
+        return String.join(" and ", condiciones);
+    }
+
+    private static String tieneRol(TipoRol rol) {
+        return "exists (select 1 from rol_evento r where r.evento_idevento = e.idEvento " +
+               "and r.tipo = '" + rol.name() + "' and r.activo = true)";
+    }
+
+    // Solo invalida lo cacheado sobre Evento (no las regiones de personas y películas)
+    private static int transicion(EntityManager em, String sql) {
+        return em.createNativeQuery(sql)
+                 .unwrap(NativeQuery.class)
+                 .addSynchronizedEntityClass(Evento.class)
+                 .executeUpdate();
+    }
+
+    // Próximos instantes en que algún evento cambia de estado: inicio de los confirmados
+    // y fin de los confirmados o en ejecución
+    public List<LocalDateTime> proximosLimites(LocalDateTime ahora) {
+        return ejecutarLectura(new UnidadDeTrabajo<List<LocalDateTime>>() {
+            @Override protected List<LocalDateTime> ejecutar(EntityManager em) {
+                List<LocalDateTime> out = new ArrayList<>(em.createQuery(
+                    "select distinct e.fechaInicio from Evento e " +
+                    "where e.activo = true and e.estado = :conf and e.fechaInicio > :ahora", LocalDateTime.class)
+                  .setParameter("conf", EstadoEvento.CONFIRMADO)
+                  .setParameter("ahora", ahora)
+                  .getResultList());
+                out.addAll(em.createQuery(
+                    "select distinct e.fechaFin from Evento e " +
+                    "where e.activo = true and e.estado in (:conf, :ejec) and e.fechaFin > :ahora", LocalDateTime.class)
+                  .setParameter("conf", EstadoEvento.CONFIRMADO)
+                  .setParameter("ejec", EstadoEvento.EJECUCIÓN)
+                  .setParameter("ahora", ahora)
+                  .getResultList());
+                return out;
+            }
+        });
+    }
+
+    // Inicializa lo que pide el plan mientras la sesión sigue abierta y registra su uso
+    private static List<Evento> cargarSegunPlan(String consulta, PlanCarga plan, List<Evento> eventos) {
+        if (plan == null) throw new IllegalArgumentException("Plan de carga requerido.");
+        if (plan == PlanCarga.CON_ROLES) {
+            // La primera colección dispara la carga por lotes (@BatchSize) de las demás
+            for (Evento e : eventos)
+                for (RolEvento r : e.getRoles()) Hibernate.initialize(r.getPersona());
+        }
+        USO_PLANES.get(plan).increment();
+        if (LOG.isDebugEnabled())
+            LOG.debug("{} desde {} plan={} eventos={}", consulta, casoDeUso(), plan, eventos.size());
+        return eventos;
+    }
+
+    // Primer método de Servicio en la pila: el caso de uso que eligió el plan
+    private static String casoDeUso() {
+        return StackWalker.getInstance().walk(s -> s
+            .filter(f -> f.getClassName().equals("com.app_eventos.services.Servicio"))
+            .map(StackWalker.StackFrame::getMethodName)
+            .findFirst()
+            .orElse("?"));
+    }
+
+    // Cantidad de listados de eventos resueltos con cada plan desde el arranque
+    public static Map<PlanCarga, Long> usoPlanesCarga() {
+        Map<PlanCarga, Long> out = new EnumMap<>(PlanCarga.class);
+        USO_PLANES.forEach((plan, n) -> out.put(plan, n.sum()));
+        return out;
+    }
+
     public <T extends Evento> T guardarEvento(T e){
         return ejecutarTransaccion(new UnidadDeTrabajo<T>() {
             @Override protected T ejecutar(EntityManager em) {
@@ -503,11 +903,12 @@ public class Repositorio {
     }
 
     // “Eliminar” evento: desasociar y marcar inactivo. No borra filas.
-    public void eliminarEvento(Evento e){
-        ejecutarTransaccion(new UnidadDeTrabajo<Void>() {
-            @Override protected Void ejecutar(EntityManager em) {
-                Evento ev = em.find(Evento.class, e.getIdEvento());
-                if (ev == null) return null;
+    // Devuelve las inscripciones activas dadas de baja, o -1 si el evento ya no estaba activo.
+    public int eliminarEvento(Evento e){
+        return ejecutarTransaccion(new UnidadDeTrabajo<Integer>() {
+            @Override protected Integer ejecutar(EntityManager em) {
+                Evento ev = bloquearEvento(em, e.getIdEvento());
+                if (ev == null || !ev.isActivo()) return -1;
 
                 Long idEv = ev.getIdEvento();
 
@@ -516,25 +917,29 @@ public class Repositorio {
                 .setParameter("id", idEv)
                 .executeUpdate();
 
-                // Limpiar colecciones de participación / join-table
-                if (ev instanceof Concierto c)        c.getParticipantes().clear();
-                else if (ev instanceof Taller t)      t.getParticipantes().clear();
-                else if (ev instanceof CicloCine cc){ cc.getParticipantes().clear(); cc.getPeliculas().clear(); }
+                // Baja lógica de las inscripciones del evento
+                int bajas = em.createQuery(
+                    "update Inscripcion i set i.activo=false where i.evento.idEvento=:id and i.activo=true")
+                .setParameter("id", idEv)
+                .executeUpdate();
+                if (bajas > 0) ajustarInscriptos(em, idEv, -bajas);
+
+                // getPeliculas() devuelve una copia: las filas se borran directamente
+                if (ev instanceof CicloCine) sincronizarPeliculasCiclo(em, idEv, Set.of());
 
                 // Marcar evento como inactivo
                 ev.setActivo(false);
                 em.merge(ev);
-                return null;
+                return bajas;
             }
         });
     }
 
-    public List<Evento> buscarEventos(TipoEvento tipo, EstadoEvento estado, LocalDate desde, LocalDate hasta) {
-        return ejecutarTransaccion(new UnidadDeTrabajo<List<Evento>>() {
+    public List<Evento> buscarEventos(TipoEvento tipo, EstadoEvento estado, LocalDate desde, LocalDate hasta,
+                                      PlanCarga plan) {
+        return ejecutarLectura(new UnidadDeTrabajo<List<Evento>>() {
             @Override protected List<Evento> ejecutar(EntityManager em) {
-                StringBuilder jpql = new StringBuilder(
-                    "select distinct e from Evento e left join fetch e.roles r left join fetch r.persona p " +
-                    "where e.activo = true and (r is null or r.activo = true)");
+                StringBuilder jpql = new StringBuilder("select e from Evento e where e.activo = true");
                 Map<String,Object> params = new HashMap<>();
 
                 if (tipo   != null){ jpql.append(" and e.tipoEvento = :tipo");   params.put("tipo", tipo); }
@@ -550,17 +955,96 @@ public class Repositorio {
 
                 TypedQuery<Evento> q = em.createQuery(jpql.toString(), Evento.class);
                 params.forEach(q::setParameter);
-                return q.getResultList();
+                return cargarSegunPlan("buscarEventos", plan, q.getResultList());
+            }
+        });
+    }
+
+    // Página de filas de eventos por keyset (fechaInicio, id) con los mismos filtros que buscarEventos.
+    // Sin fetch de colecciones: una proyección sobre evento y una segunda consulta
+    // que arma los responsables de los ids de la página.
+    public Pagina<EventoFila> buscarFilasEventos(TipoEvento tipo, EstadoEvento estado, LocalDate desde, LocalDate hasta,
+                                                 EventoFila despuesDe, int tamanio) {
+        return ejecutarLectura(new UnidadDeTrabajo<Pagina<EventoFila>>() {
+            @Override protected Pagina<EventoFila> ejecutar(EntityManager em) {
+                StringBuilder jpql = new StringBuilder(
+                    "select e.idEvento, e.nombre, e.tipoEvento, e.fechaInicio, e.fechaFin, e.estado " +
+                    "from Evento e where e.activo = true");
+                Map<String,Object> params = new HashMap<>();
+
+                if (tipo   != null){ jpql.append(" and e.tipoEvento = :tipo");   params.put("tipo", tipo); }
+                if (estado != null){ jpql.append(" and e.estado = :estado");     params.put("estado", estado); }
+
+                LocalDateTime from = (desde == null) ? null : desde.atStartOfDay();
+                LocalDateTime to   = (hasta == null) ? null : hasta.atTime(LocalTime.of(23,59,59));
+
+                if (from != null){ jpql.append(" and e.fechaFin >= :from"); params.put("from", from); }
+                if (to   != null){ jpql.append(" and e.fechaInicio <= :to"); params.put("to", to); }
+
+                if (despuesDe != null) {
+                    jpql.append(" and (e.fechaInicio, e.idEvento) > (:fIni, :id)");
+                    params.put("fIni", despuesDe.fechaInicio());
+                    params.put("id", despuesDe.idEvento());
+                }
+                jpql.append(" order by e.fechaInicio, e.idEvento");
+
+                TypedQuery<Object[]> q = em.createQuery(jpql.toString(), Object[].class);
+                params.forEach(q::setParameter);
+                Pagina<Object[]> filas = Pagina.de(q.setMaxResults(tamanio + 1).getResultList(), tamanio);
+
+                Map<Long, String> responsables = responsablesPorEvento(em,
+                    filas.items().stream().map(f -> (Long) f[0]).toList());
+
+                List<EventoFila> out = new ArrayList<>(filas.items().size());
+                for (Object[] f : filas.items()) {
+                    Long id = (Long) f[0];
+                    out.add(new EventoFila(id, (String) f[1], (TipoEvento) f[2],
+                                           (LocalDateTime) f[3], (LocalDateTime) f[4], (EstadoEvento) f[5],
+                                           responsables.getOrDefault(id, "")));
+                }
+                return new Pagina<>(out, filas.hayMas());
+            }
+        });
+    }
+
+    // "Nombre Apellido (ROL), ..." por evento, en orden de asignación
+    private Map<Long, String> responsablesPorEvento(EntityManager em, List<Long> ids) {
+        if (ids.isEmpty()) return Map.of();
+        Map<Long, Set<String>> porEvento = new HashMap<>();
+        for (Object[] r : em.createQuery(
+                "select r.evento.idEvento, p.nombre, p.apellido, r.rol from RolEvento r join r.persona p " +
+                "where r.evento.idEvento in :ids and r.activo = true order by r.id", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()) {
+            porEvento.computeIfAbsent((Long) r[0], _ -> new LinkedHashSet<>())
+                     .add(r[1] + " " + r[2] + " (" + ((TipoRol) r[3]).name() + ")");
+        }
+        Map<Long, String> out = new HashMap<>();
+        porEvento.forEach((id, nombres) -> out.put(id, String.join(", ", nombres)));
+        return out;
+    }
+
+    // Entidad completa con sus roles activos, para editar o asignar roles desde una fila
+    public Evento buscarEvento(Long idEvento) {
+        return ejecutarLectura(new UnidadDeTrabajo<Evento>() {
+            @Override protected Evento ejecutar(EntityManager em) {
+                return em.createQuery(
+                    "select e from Evento e left join fetch e.roles r left join fetch r.persona p " +
+                    "where e.idEvento = :id and e.activo = true", Evento.class)
+                  .setParameter("id", idEvento)
+                  .getResultStream()
+                  .findFirst()
+                  .orElse(null);
             }
         });
     }
 
     // Personas elegibles para inscribirse: activos y sin rol activo ni inscripción
-    public java.util.List<Persona> personasElegiblesParaInscripcion(Evento e) {
-        return ejecutarTransaccion(new UnidadDeTrabajo<java.util.List<Persona>>() {
+    public java.util.List<Persona> personasElegiblesParaInscripcion(Long idEvento) {
+        return ejecutarLectura(new UnidadDeTrabajo<java.util.List<Persona>>() {
             @Override protected java.util.List<Persona> ejecutar(EntityManager em) {
-                Evento ev = em.find(Evento.class, e.getIdEvento());
-                if (!ev.isActivo()) return java.util.Collections.emptyList();
+                Evento ev = em.find(Evento.class, idEvento);
+                if (ev == null || !ev.isActivo() || !(ev instanceof IEventoConInscripcion)) return java.util.Collections.emptyList();
 
                 Long idEv = ev.getIdEvento();
 
@@ -575,43 +1059,18 @@ public class Repositorio {
                       )
                     """;
 
-                String order = " order by p.apellido, p.nombre";
-
-                if (ev instanceof Concierto) {
-                    String jpql = base + """
-                        and not exists (
-                            select 1 from Concierto c join c.participantes px
-                            where c.idEvento = :idEv and px.idPersona = p.idPersona and px.activo = true
-                        )
-                        """ + order;
-                    return em.createQuery(jpql, Persona.class)
-                            .setParameter("idEv", idEv)
-                            .getResultList();
-
-                } else if (ev instanceof Taller) {
-                    String jpql = base + """
-                        and not exists (
-                            select 1 from Taller t join t.participantes px
-                            where t.idEvento = :idEv and px.idPersona = p.idPersona and px.activo = true
-                        )
-                        """ + order;
-                    return em.createQuery(jpql, Persona.class)
-                            .setParameter("idEv", idEv)
-                            .getResultList();
-
-                } else if (ev instanceof CicloCine) {
-                    String jpql = base + """
-                        and not exists (
-                            select 1 from CicloCine c join c.participantes px
-                            where c.idEvento = :idEv and px.idPersona = p.idPersona and px.activo = true
-                        )
-                        """ + order;
-                    return em.createQuery(jpql, Persona.class)
-                            .setParameter("idEv", idEv)
-                            .getResultList();
-                }
-
-                return java.util.Collections.emptyList();
+                String jpql = base + """
+                    and not exists (
+                        select 1 from Inscripcion i
+                        where i.evento.idEvento = :idEv
+                          and i.persona.idPersona = p.idPersona
+                          and i.activo = true
+                    )
+                    order by p.apellido, p.nombre
+                    """;
+                return em.createQuery(jpql, Persona.class)
+                        .setParameter("idEv", idEv)
+                        .getResultList();
             }
         });
     }
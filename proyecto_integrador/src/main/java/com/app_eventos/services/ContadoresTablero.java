@@ -0,0 +1,77 @@
+package com.app_eventos.services;
+
+import com.app_eventos.model.Evento;
+import com.app_eventos.model.enums.EstadoEvento;
+import com.app_eventos.repository.MetricasTablero;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// Métricas de la pantalla de inicio en memoria. Se cargan con una sola consulta y después se
+// ajustan con cada alta o baja hecha desde esta instancia, sin volver a la base.
+// Se vuelven a consultar al vencer (cambios de otras instancias, eventos que terminan con el
+// paso del tiempo) o cuando un cambio no se puede traducir en un delta exacto.
+final class ContadoresTablero {
+
+    private static final Duration VIGENCIA = Duration.ofMinutes(5);
+
+    private record Lectura(MetricasTablero metricas, long cargadaNanos) {}
+
+    private final Supplier<MetricasTablero> consulta;
+    private final AtomicReference<Lectura> actual = new AtomicReference<>();
+    // Sube con cada ajuste o invalidación: un recuento que empezó antes no se publica
+    private final AtomicLong generacion = new AtomicLong();
+
+    ContadoresTablero(Supplier<MetricasTablero> consulta) {
+        this.consulta = consulta;
+    }
+
+    MetricasTablero obtener() {
+        Lectura l = actual.get();
+        if (l == null || System.nanoTime() - l.cargadaNanos() > VIGENCIA.toNanos()) {
+            long gen = generacion.get();
+            l = new Lectura(consulta.get(), System.nanoTime());
+            publicar(gen, l);
+        }
+        return l.metricas();
+    }
+
+    void eventoCreado(Evento e) {
+        ajustar(1, esActivo(e) ? 1 : 0, 0, 0);
+    }
+
+    void eventoEliminado(Evento e, int inscripcionesDadasDeBaja) {
+        ajustar(-1, esActivo(e) ? -1 : 0, 0, -inscripcionesDadasDeBaja);
+    }
+
+    void personaCreada() { ajustar(0, 0, 1, 0); }
+
+    void inscripcion(int delta) { ajustar(0, 0, 0, delta); }
+
+    // Modificaciones de eventos, bajas de personas y transiciones de estado: se recuenta
+    synchronized void invalidar() {
+        generacion.incrementAndGet();
+        actual.set(null);
+    }
+
+    // Si hubo un ajuste durante la consulta, el resultado se devuelve igual pero no queda guardado
+    // (pisaría el delta o una invalidación); la próxima lectura recuenta
+    private synchronized void publicar(long gen, Lectura l) {
+        if (gen == generacion.get()) actual.set(l);
+    }
+
+    // Mismo criterio que la consulta: confirmado y sin terminar
+    private static boolean esActivo(Evento e) {
+        return e.getEstado() == EstadoEvento.CONFIRMADO
+            && e.getFechaFin() != null && e.getFechaFin().isAfter(LocalDateTime.now());
+    }
+
+    private synchronized void ajustar(long dEventos, long dActivos, long dPersonas, long dInscripciones) {
+        generacion.incrementAndGet();
+        actual.updateAndGet(l -> l == null ? null
+            : new Lectura(l.metricas().mas(dEventos, dActivos, dPersonas, dInscripciones), l.cargadaNanos()));
+    }
+}
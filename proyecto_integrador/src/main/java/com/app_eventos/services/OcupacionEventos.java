@@ -0,0 +1,121 @@
+package com.app_eventos.services;
+
+import com.app_eventos.model.Evento;
+import com.app_eventos.model.interfaces.IEventoConInscripcion;
+import com.app_eventos.repository.Ocupacion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Inscriptos/cupo por evento en memoria, para combos, tablas y calendario sin consultar participantes.
+// Se carga completo con una consulta y se ajusta con cada inscripción o baja hecha desde esta instancia.
+// Como ContadoresTablero, vence a los pocos minutos para tomar los cambios de otras instancias.
+// Se lee desde el hilo de JavaFX: de() nunca consulta la base; si no hay datos o vencieron, lanza la
+// recarga en segundo plano y responde con lo que tiene (null mientras no haya carga).
+final class OcupacionEventos {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OcupacionEventos.class);
+
+    private static final Duration VIGENCIA = Duration.ofMinutes(5);
+
+    private final Supplier<Map<Long, Ocupacion>> consulta;
+    private volatile ConcurrentHashMap<Long, Ocupacion> porEvento;
+    private volatile long cargadaNanos;
+    private final AtomicBoolean cargando = new AtomicBoolean();
+    // Sube con cada ajuste: una carga que empezó antes no se publica (perdería ese ajuste)
+    private final AtomicLong generacion = new AtomicLong();
+
+    OcupacionEventos(Supplier<Map<Long, Ocupacion>> consulta) {
+        this.consulta = consulta;
+    }
+
+    // null si el evento no admite inscripción, ya terminó o todavía no hay carga
+    Ocupacion de(Long idEvento) {
+        if (idEvento == null) return null;
+        ConcurrentHashMap<Long, Ocupacion> m = porEvento;
+        if (m == null || System.nanoTime() - cargadaNanos > VIGENCIA.toNanos()) recargar();
+        return m == null ? null : m.get(idEvento);
+    }
+
+    // Una sola recarga a la vez, en un hilo virtual
+    void recargar() {
+        if (!cargando.compareAndSet(false, true)) return;
+        long gen = generacion.get();
+        Thread.ofVirtual().name("ocupacion-eventos").start(() -> {
+            try {
+                ConcurrentHashMap<Long, Ocupacion> m = new ConcurrentHashMap<>(consulta.get());
+                synchronized (this) {
+                    if (gen == generacion.get()) {
+                        porEvento = m;
+                        cargadaNanos = System.nanoTime();
+                    }
+                }
+            } catch (RuntimeException ex) {
+                LOG.error("No se pudo cargar la ocupación de los eventos", ex);
+            } finally {
+                cargando.set(false);
+            }
+        });
+    }
+
+    void inscripcion(Long idEvento, int delta) {
+        ajustar(m -> m.computeIfPresent(idEvento, (_, o) -> o.mas(delta)));
+    }
+
+    // Alta: todavía sin inscriptos
+    void eventoCreado(Evento e) {
+        if (e.getIdEvento() == null) return;
+        ajustar(m -> {
+            if (e.isActivo() && e instanceof IEventoConInscripcion c)
+                m.put(e.getIdEvento(), new Ocupacion(0, c.getCupoMaximo()));
+        });
+    }
+
+    // Modificación: solo el cupo pudo cambiar. Los inscriptos de la entidad editada pueden ser
+    // viejos (el contador lo mantiene el repositorio), así que se conservan los del mapa.
+    void eventoModificado(Evento e) {
+        if (e.getIdEvento() == null) return;
+        ajustar(m -> {
+            if (e.isActivo() && e instanceof IEventoConInscripcion c)
+                m.computeIfPresent(e.getIdEvento(), (_, o) -> new Ocupacion(o.inscriptos(), c.getCupoMaximo()));
+            else
+                m.remove(e.getIdEvento());
+        });
+    }
+
+    void eventoEliminado(Long idEvento) {
+        if (idEvento != null) ajustar(m -> m.remove(idEvento));
+    }
+
+    // Transiciones de estado (planificador) o cambios que no se traducen en un delta: se descarta
+    // lo guardado y se vuelve a cargar en segundo plano
+    void invalidar() {
+        synchronized (this) {
+            generacion.incrementAndGet();
+            porEvento = null;
+        }
+        recargar();
+    }
+
+    // Valor recién leído de la base para un evento (fila del combo de inscripción): es más nuevo que
+    // el de memoria, que no ve lo hecho desde otras instancias. No descarta una carga en curso.
+    synchronized void leida(Long idEvento, Ocupacion o) {
+        ConcurrentHashMap<Long, Ocupacion> m = porEvento;
+        if (m != null && idEvento != null && o != null) m.put(idEvento, o);
+    }
+
+    // Bajo el mismo lock que la publicación: el ajuste cae en el mapa vigente o descarta la carga en curso
+    private synchronized void ajustar(Consumer<ConcurrentHashMap<Long, Ocupacion>> cambio) {
+        generacion.incrementAndGet();
+        ConcurrentHashMap<Long, Ocupacion> m = porEvento;
+        if (m != null) cambio.accept(m);
+    }
+}
@@ -0,0 +1,116 @@
+package com.app_eventos.services;
+
+import com.app_eventos.model.Evento;
+import com.app_eventos.repository.Repositorio;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Aplica las transiciones automáticas de estado (CONFIRMADO -> EJECUCIÓN -> FINALIZADO) en segundo plano,
+// justo cuando vence el próximo inicio o fin de algún evento. Mantiene ordenados los instantes pendientes
+// y programa un único disparo para el primero; cada disparo es un UPDATE por conjunto en la base.
+// Con varias instancias abiertas todas programan los mismos límites, pero cada límite lo procesa
+// solo la primera que toma su turno en la base (Repositorio.aplicarTransiciones); el resto solo lee.
+final class PlanificadorEstados {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PlanificadorEstados.class);
+
+    // Red de seguridad: relee los límites de la base (cambios hechos por otra instancia)
+    private static final Duration RECARGA = Duration.ofHours(1);
+
+    private final Repositorio repositorio;
+    private final Runnable alCambiarEstados;
+    private final ScheduledExecutorService hilo = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "planificador-estados");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Instantes pendientes, sin repetir (muchos eventos comparten horario)
+    private final NavigableSet<LocalDateTime> limites = new TreeSet<>();
+    private ScheduledFuture<?> proximo;
+    private boolean iniciado;
+
+    PlanificadorEstados(Repositorio repositorio, Runnable alCambiarEstados) {
+        this.repositorio = repositorio;
+        this.alCambiarEstados = alCambiarEstados;
+    }
+
+    synchronized void iniciar() {
+        if (iniciado) return;
+        iniciado = true;
+        // Pone al día lo vencido mientras la app estuvo cerrada y carga los próximos límites
+        hilo.scheduleWithFixedDelay(this::recargar, 0, RECARGA.toMinutes(), TimeUnit.MINUTES);
+    }
+
+    synchronized void detener() {
+        iniciado = false;
+        hilo.shutdownNow();
+    }
+
+    // Un evento creado o modificado puede traer un límite anterior al programado
+    synchronized void registrar(Evento e) {
+        LocalDateTime ahora = LocalDateTime.now();
+        if (e.getFechaInicio() != null && e.getFechaInicio().isAfter(ahora)) limites.add(e.getFechaInicio());
+        if (e.getFechaFin() != null && e.getFechaFin().isAfter(ahora)) limites.add(e.getFechaFin());
+        programar();
+    }
+
+    private void recargar() {
+        LocalDateTime ahora = LocalDateTime.now();
+        aplicar(ahora);
+        try {
+            var pendientes = repositorio.proximosLimites(ahora);
+            synchronized (this) {
+                limites.clear();
+                limites.addAll(pendientes);
+                programar();
+            }
+        } catch (RuntimeException ex) {
+            LOG.error("No se pudieron leer los próximos cambios de estado", ex);
+        }
+    }
+
+    private void vencer() {
+        LocalDateTime ahora = LocalDateTime.now();
+        LocalDateTime turno = null;
+        synchronized (this) {
+            while (!limites.isEmpty() && !limites.first().isAfter(ahora)) turno = limites.pollFirst();
+        }
+        // El turno es el último límite vencido: igual en todas las instancias que lo tenían programado.
+        // El reloj local solo decide cuándo disparar; qué venció lo decide la hora de la base.
+        if (turno != null) aplicar(turno);
+        synchronized (this) { programar(); }
+    }
+
+    // Un error no debe cortar el hilo: el próximo disparo o la recarga reintentan
+    private void aplicar(LocalDateTime turno) {
+        try {
+            int n = repositorio.aplicarTransiciones(turno);
+            if (n < 0) LOG.debug("Turno {} ya procesado por otra instancia", turno);
+            else if (n > 0) {
+                LOG.info("Transiciones de estado aplicadas: {}", n);
+                alCambiarEstados.run();
+            }
+        } catch (RuntimeException ex) {
+            LOG.error("Falló la transición automática de estados", ex);
+        }
+    }
+
+    // Reprograma el único disparo pendiente para el primer límite
+    private void programar() {
+        if (!iniciado || limites.isEmpty()) return;
+        if (proximo != null) proximo.cancel(false);
+        long espera = Duration.between(LocalDateTime.now(), limites.first()).toMillis();
+        proximo = hilo.schedule(this::vencer, Math.max(0, espera), TimeUnit.MILLISECONDS);
+    }
+}
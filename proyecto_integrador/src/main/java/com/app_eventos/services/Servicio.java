@@ -2,14 +2,23 @@ package com.app_eventos.services;
 
 import com.app_eventos.model.*;
 import com.app_eventos.model.enums.*;
+import com.app_eventos.repository.EventoFila;
+import com.app_eventos.repository.EventoInscribible;
+import com.app_eventos.repository.MetricasTablero;
+import com.app_eventos.repository.Ocupacion;
+import com.app_eventos.repository.Pagina;
+import com.app_eventos.repository.ParticipanteFila;
+import com.app_eventos.repository.PlanCarga;
 import com.app_eventos.repository.Repositorio;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import java.time.*;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 public class Servicio {
 
@@ -18,6 +27,21 @@ public class Servicio {
     private Servicio() {}
 
     private final Repositorio repositorio = new Repositorio();
+    private final ContadoresTablero contadores =
+        new ContadoresTablero(() -> repositorio.metricasTablero(LocalDateTime.now()));
+    private final OcupacionEventos ocupacion = new OcupacionEventos(repositorio::ocupacionEventos);
+    // Una transición cambia qué eventos siguen abiertos: se recuentan métricas y ocupación
+    private final PlanificadorEstados planificador = new PlanificadorEstados(repositorio, () -> {
+        contadores.invalidar();
+        ocupacion.invalidar();
+    });
+
+    // Transiciones automáticas de estado en segundo plano (desde App.start / App.stop)
+    public void iniciarPlanificadorEstados() { planificador.iniciar(); }
+    public void detenerPlanificadorEstados() { planificador.detener(); }
+
+    // Ocupación de los eventos cargada en segundo plano antes de la primera pantalla que la muestra
+    public void precargarOcupacion() { ocupacion.recargar(); }
 
     // Helpers de estado
 
@@ -35,6 +59,19 @@ public class Servicio {
         }
     }
 
+    // Tras cada alta o modificación: fechas para el planificador, métricas del tablero y cupo
+    private void eventoCreado(Evento e) {
+        planificador.registrar(e);
+        contadores.eventoCreado(e);
+        ocupacion.eventoCreado(e);
+    }
+
+    private void eventoModificado(Evento e) {
+        planificador.registrar(e);
+        contadores.invalidar();
+        ocupacion.eventoModificado(e);
+    }
+
     // ALTAS 
     
     public void crearFeria(String nombre,
@@ -47,6 +84,7 @@ public class Servicio {
         f.setAmbiente(ambiente);
         aplicarEstadoInicial(f, estado);
         repositorio.guardarEvento(f);
+        eventoCreado(f);
     }
 
     public void crearConcierto(String nombre,
@@ -59,6 +97,7 @@ public class Servicio {
         c.setCupoMaximo(cupoMaximo);
         aplicarEstadoInicial(c, estado);
         repositorio.guardarEvento(c);
+        eventoCreado(c);
     }
 
     public void crearExposicion(String nombre,
@@ -70,6 +109,7 @@ public class Servicio {
         x.setTipoArte(tipoArte);
         aplicarEstadoInicial(x, estado);
         repositorio.guardarEvento(x);
+        eventoCreado(x);
     }
 
     public void crearTaller(String nombre,
@@ -82,6 +122,7 @@ public class Servicio {
         t.setModalidad(modalidad);
         aplicarEstadoInicial(t, estado);
         repositorio.guardarEvento(t);
+        eventoCreado(t);
     }
 
     public void crearCicloCine(String nombre,
@@ -93,11 +134,13 @@ public class Servicio {
         cc.setPostCharla(postCharla);
         cc.setCupoMaximo(cupoMaximo);
 
-        if (pelis != null) pelis.forEach(cc::agregarPelicula);
-
         aplicarEstadoInicial(cc, estado);
-        repositorio.guardarEvento(cc);
-        repositorio.actualizarPeliculasCiclo(cc.getIdEvento(), pelis);
+        // Evento y películas en la misma transacción: no queda un ciclo guardado sin sus películas
+        repositorio.enUnaTransaccion(() -> {
+            repositorio.guardarEvento(cc);
+            repositorio.actualizarPeliculasCiclo(cc.getIdEvento(), pelis);
+        });
+        eventoCreado(cc);
     }
 
 
@@ -113,6 +156,7 @@ public class Servicio {
         f.setAmbiente(ambiente);
         aplicarCambioEstadoSiCorresponde(f, estado);
         repositorio.actualizarEvento(f);
+        eventoModificado(f);
     }
 
     public void actualizarConcierto(Concierto c, String nombre,
@@ -125,6 +169,7 @@ public class Servicio {
         c.setCupoMaximo(cupoMaximo);
         aplicarCambioEstadoSiCorresponde(c, estado);
         repositorio.actualizarEvento(c);
+        eventoModificado(c);
     }
 
     public void actualizarExposicion(Exposicion x, String nombre,
@@ -136,6 +181,7 @@ public class Servicio {
         x.setTipoArte(tipoArte);
         aplicarCambioEstadoSiCorresponde(x, estado);
         repositorio.actualizarEvento(x);
+        eventoModificado(x);
     }
 
     public void actualizarTaller(Taller t, String nombre,
@@ -148,6 +194,7 @@ public class Servicio {
         t.setModalidad(modalidad);
         aplicarCambioEstadoSiCorresponde(t, estado);
         repositorio.actualizarEvento(t);
+        eventoModificado(t);
     }
 
     public void actualizarCicloCine(CicloCine cc, String nombre,
@@ -159,35 +206,57 @@ public class Servicio {
         cc.setPostCharla(postCharla);
         cc.setCupoMaximo(cupoMaximo);
         aplicarCambioEstadoSiCorresponde(cc, estado);
-        repositorio.actualizarEvento(cc);
-
-        // mantiene tu actualización específica de pelis
-        repositorio.actualizarPeliculasCiclo(cc.getIdEvento(), pelis);
+        // El merge y la sincronización de películas comparten contexto: el ciclo se busca una sola vez
+        repositorio.enUnaTransaccion(() -> {
+            repositorio.actualizarEvento(cc);
+            repositorio.actualizarPeliculasCiclo(cc.getIdEvento(), pelis);
+        });
+        eventoModificado(cc);
     }
 
     // Listados / Búsquedas / Eliminación
 
-    public List<Evento> listarEventos() { return repositorio.listarEventos(); }
+    // Entidades completas para editar o asignar roles
+    public List<Evento> listarEventos() { return repositorio.listarEventos(PlanCarga.CON_ROLES); }
+
+    // Para combos y listados que solo muestran datos del evento
+    public List<Evento> listarEventos(PlanCarga plan) { return repositorio.listarEventos(plan); }
 
     public List<Evento> buscarEventos(TipoEvento tipo, EstadoEvento estado, LocalDate desde, LocalDate hasta) {
-        return repositorio.buscarEventos(tipo, estado, desde, hasta);
+        return repositorio.buscarEventos(tipo, estado, desde, hasta, PlanCarga.CON_ROLES);
     }
 
-    public void eliminarEvento(Evento e) {
-        if (e == null) throw new IllegalArgumentException("Evento inválido.");
-        repositorio.eliminarEvento(e);
+    // Filas planas para la tabla de eventos (sin entidades)
+    public Pagina<EventoFila> buscarFilasEventos(TipoEvento tipo, EstadoEvento estado, LocalDate desde, LocalDate hasta,
+                                                 EventoFila despuesDe, int tamanio) {
+        return repositorio.buscarFilasEventos(tipo, estado, desde, hasta, despuesDe, tamanio);
     }
 
-    public ObservableList<Evento> obtenerEventosConEstadosActualizados() {
-        verificarEstadosEventos();
-        return FXCollections.observableArrayList(repositorio.listarEventos());
+    public Evento obtenerEvento(Long idEvento) { return repositorio.buscarEvento(idEvento); }
+
+    public void eliminarEvento(Evento e) {
+        if (e == null) throw new IllegalArgumentException("Evento inválido.");
+        int bajas = repositorio.eliminarEvento(e);
+        if (bajas >= 0) contadores.eventoEliminado(e, bajas);
+        ocupacion.eventoEliminado(e.getIdEvento());
     }
 
     // Personas
 
     public ObservableList<Persona> obtenerPersonas() { return repositorio.listarPersonas(); }
-    public void guardarPersona(Persona persona) { repositorio.guardarPersona(persona); }
-    public void eliminarPersona(Persona persona) { repositorio.eliminarPersona(persona); }
+    public Pagina<Persona> obtenerPersonasPagina(String nombre, String dni, Persona despuesDe, int tamanio) {
+        return repositorio.listarPersonasPagina(nombre, dni, despuesDe, tamanio);
+    }
+    public void guardarPersona(Persona persona) {
+        repositorio.guardarPersona(persona);
+        contadores.personaCreada();
+    }
+
+    // Sus inscripciones dejan de contar: se recuenta
+    public void eliminarPersona(Persona persona) {
+        repositorio.eliminarPersona(persona);
+        contadores.invalidar();
+    }
     public void actualizarPersona(Persona original, Persona actualizada) {
         original.actualizar(actualizada);
         repositorio.actualizarPersona(original);
@@ -209,33 +278,50 @@ public class Servicio {
 
     // Participantes
 
-    public void inscribirParticipante(Evento evento, Persona persona) {
-        repositorio.agregarParticipante(evento, persona);
+    public void inscribirParticipante(Long idEvento, Persona persona) {
+        repositorio.agregarParticipante(idEvento, persona);
+        contadores.inscripcion(1);
+        ocupacion.inscripcion(idEvento, 1);
     }
 
-    public void desinscribirParticipante(Evento evento, Persona persona) {
-        repositorio.quitarParticipante(evento, persona);
+    public void desinscribirParticipante(Long idEvento, Long idPersona) {
+        if (repositorio.quitarParticipante(idEvento, idPersona)) {
+            contadores.inscripcion(-1);
+            ocupacion.inscripcion(idEvento, -1);
+        }
     }
 
-    public ObservableList<Persona> obtenerParticipantes(Evento evento) {
-        return repositorio.obtenerParticipantes(evento);
+    // Inscriptos / cupo al momento (en memoria; ver OcupacionEventos). null si el evento no tiene cupo.
+    public Ocupacion ocupacion(Long idEvento) { return ocupacion.de(idEvento); }
+
+    // Ocupación recién leída de la base (p. ej. con los eventos del combo): pone al día la de memoria
+    public void ocupacionLeida(Long idEvento, Ocupacion o) { ocupacion.leida(idEvento, o); }
+
+    public Pagina<ParticipanteFila> buscarParticipantes(Long idEvento, String dni, String nombre,
+                                                        ParticipanteFila despuesDe, int tamanio) {
+        return repositorio.buscarParticipantes(idEvento, dni, nombre, despuesDe, tamanio);
+    }
+
+    public long contarParticipantes(Long idEvento, String dni, String nombre) {
+        return repositorio.contarParticipantes(idEvento, dni, nombre);
+    }
+
+    public ObservableList<Persona> obtenerParticipantes(Long idEvento) {
+        return repositorio.obtenerParticipantes(idEvento);
     }
 
     // Roles
 
     public RolEvento asignarRol(Evento evento, Persona persona, TipoRol rol) {
         RolEvento rolPersistido = repositorio.asignarRol(evento, persona, rol);
-        boolean yaEsta = evento.getRoles() != null &&
-                evento.getRoles().stream().anyMatch(r -> r.getPersona().equals(persona));
-        if (!yaEsta) evento.agregarRol(rolPersistido);
+        if (!evento.personaTieneRol(persona)) evento.agregarRol(rolPersistido);
         return rolPersistido;
     }
 
     public void eliminarRol(Evento evento, Persona persona, TipoRol rol) {
         repositorio.eliminarRol(evento, persona, rol);
-        if (evento.getRoles() != null) {
-            evento.getRoles().removeIf(r -> r.getPersona().equals(persona) && r.getRol() == rol);
-        }
+        // getRoles() es de solo lectura (antes era una copia y el removeIf no tenía efecto)
+        evento.quitarRol(persona, rol);
     }
 
     public ObservableList<RolEvento> obtenerRolesDeEvento(Evento evento) {
@@ -249,6 +335,9 @@ public class Servicio {
     // Películas
 
     public ObservableList<Pelicula> obtenerPeliculas() { return repositorio.listarPeliculas(); }
+    public Pagina<Pelicula> obtenerPeliculasPagina(Pelicula despuesDe, int tamanio) {
+        return repositorio.listarPeliculasPagina(despuesDe, tamanio);
+    }
     public void guardarPelicula(Pelicula pelicula) { repositorio.guardarPelicula(pelicula); }
     public void eliminarPelicula(Pelicula pelicula) { repositorio.eliminarPelicula(pelicula); }
     public void actualizarPelicula(Pelicula original, Pelicula actualizada) {
@@ -263,20 +352,10 @@ public class Servicio {
         return repositorio.findCicloCineConPeliculas(idCiclo);
     }
 
-    // Estados automáticos
-
-    public void verificarEstadosEventos() {
-        for (Evento e : repositorio.listarEventos()) {
-            EstadoEvento antes = e.getEstado();
-            e.verificarEstadoAutomatico();
-            if (antes != e.getEstado()) repositorio.actualizarEvento(e);
-        }
-    }
-
     // Métricas / utilitarios
 
     public List<Evento> listarEventosPorRango(LocalDateTime desde, LocalDateTime hasta) {
-        var base = repositorio.buscarEventos(null, null, desde.toLocalDate(), hasta.toLocalDate());
+        var base = repositorio.buscarEventos(null, null, desde.toLocalDate(), hasta.toLocalDate(), PlanCarga.BASICO);
         return base.stream()
                 .filter(e -> {
                     LocalDateTime ini = e.getFechaInicio();
@@ -287,46 +366,23 @@ public class Servicio {
                 .toList();
     }
 
-    public long contarEventos() { return repositorio.listarEventos().size(); }
-
-    public long contarEventosActivos() {
-        LocalDateTime ahora = LocalDateTime.now();
-        return repositorio.listarEventos().stream()
-                .filter(e -> e.getEstado() == EstadoEvento.CONFIRMADO)
-                .filter(e -> e.getFechaFin() != null && e.getFechaFin().isAfter(ahora))
-                .count();
-    }
-
-    public long contarPersonas() { return repositorio.listarPersonas().size(); }
+    // Los cuatro contadores de la pantalla de inicio (en memoria; ver ContadoresTablero)
+    public MetricasTablero metricasTablero() { return contadores.obtener(); }
 
-    public long contarInscripciones() {
-        long total = 0L;
-        for (Evento e : repositorio.listarEventos()) {
-            total += repositorio.obtenerParticipantes(e).size();
-        }
-        return total;
-    }
+    // Listados de eventos resueltos con cada plan de carga desde el arranque
+    public Map<PlanCarga, Long> usoPlanesCarga() { return Repositorio.usoPlanesCarga(); }
 
-    public List<Evento> listarEventosQueAdmitenInscripcion() {
-        LocalDateTime ahora = LocalDateTime.now();
-        return repositorio.listarEventos().stream()
-                .filter(e -> e.getEstado() == EstadoEvento.CONFIRMADO)
-                .filter(e -> e.getFechaFin() != null && e.getFechaFin().isAfter(ahora))
-                .filter(e -> (e instanceof Concierto) || (e instanceof Taller) || (e instanceof CicloCine))
-                .toList();
+    // Eventos de tipos con inscripción (concierto, taller, ciclo de cine), en cualquier estado
+    public List<EventoInscribible> listarEventosConInscripcion() {
+        return repositorio.eventosConInscripcion(null);
     }
 
-    public ObservableList<Evento> obtenerEventosParaInscripcion() {
-        return FXCollections.observableArrayList(
-            repositorio.listarEventos().stream()
-                .filter(e -> e instanceof com.app_eventos.model.interfaces.IEventoConInscripcion)
-                .filter(e -> e.getEstado() == EstadoEvento.CONFIRMADO)
-                .filter(e -> e.getFechaFin() != null && e.getFechaFin().isAfter(LocalDateTime.now()))
-                .toList()
-        );
+    // Solo los abiertos: CONFIRMADOS y sin terminar (filtrado en la consulta)
+    public ObservableList<EventoInscribible> obtenerEventosParaInscripcion() {
+        return FXCollections.observableArrayList(repositorio.eventosConInscripcion(LocalDateTime.now()));
     }
 
-    public ObservableList<Persona> obtenerPersonasElegiblesParaEvento(Evento e) {
-        return FXCollections.observableArrayList(repositorio.personasElegiblesParaInscripcion(e));
+    public ObservableList<Persona> obtenerPersonasElegiblesParaEvento(Long idEvento) {
+        return FXCollections.observableArrayList(repositorio.personasElegiblesParaInscripcion(idEvento));
     }
 }
@@ -0,0 +1,84 @@
+package com.app_eventos.utils;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Vistas FXML ya cargadas (raíz + controlador), reutilizadas en vez de parsear el FXML y construir
+// el controlador en cada navegación. Tope de vistas vivas: al superarlo se descarta la usada hace más
+// tiempo (LRU) y se vuelve a cargar si se la pide otra vez. Al reutilizar una vista, si su controlador
+// es Refrescable se le pide que relea sus datos. Se usa solo desde el hilo de JavaFX.
+public final class CacheVistas {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheVistas.class);
+
+    public record Vista(Parent raiz, Object controlador) {}
+
+    private final int maximo;
+    private final Map<String, Vista> vistas;
+
+    public CacheVistas(int maximo) {
+        if (maximo <= 0) throw new IllegalArgumentException("Tope de vistas inválido.");
+        this.maximo = maximo;
+        // Orden de acceso: la primera es la menos usada
+        this.vistas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<String, Vista> mayor) {
+                return size() > CacheVistas.this.maximo;
+            }
+        };
+    }
+
+    // Vista lista para mostrar: la de la cache refrescada, o una recién cargada
+    public Vista mostrar(String rutaFxml) throws IOException {
+        Vista v = vistas.get(rutaFxml);
+        if (v != null) {
+            if (v.controlador() instanceof Refrescable r) r.refrescar();
+            return v;
+        }
+        v = cargar(rutaFxml);
+        vistas.put(rutaFxml, v);
+        return v;
+    }
+
+    // Carga de a una vista por vuelta del hilo de JavaFX, para no trabar la ventana al arrancar.
+    // Las que ya están en la cache se saltean; sin lugar para todas, no se sigue.
+    public void precargar(Collection<String> rutas) {
+        Deque<String> pendientes = new ArrayDeque<>(rutas);
+        Platform.runLater(() -> precargarSiguiente(pendientes));
+    }
+
+    private void precargarSiguiente(Deque<String> pendientes) {
+        String ruta = pendientes.poll();
+        if (ruta == null) return;
+        if (!vistas.containsKey(ruta)) {
+            if (vistas.size() >= maximo) return;
+            try {
+                vistas.put(ruta, cargar(ruta));
+            } catch (IOException | RuntimeException ex) {
+                LOG.warn("No se pudo precargar la vista {}", ruta, ex);
+            }
+        }
+        Platform.runLater(() -> precargarSiguiente(pendientes));
+    }
+
+    private Vista cargar(String rutaFxml) throws IOException {
+        URL url = getClass().getResource(rutaFxml);
+        if (url == null) {
+            throw new IllegalStateException("No se encontró el FXML en la ruta: " + rutaFxml);
+        }
+        FXMLLoader loader = new FXMLLoader(url);
+        Parent raiz = loader.load();
+        return new Vista(raiz, loader.getController());
+    }
+}
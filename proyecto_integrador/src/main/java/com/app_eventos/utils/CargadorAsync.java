@@ -0,0 +1,96 @@
+package com.app_eventos.utils;
+
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Corre las consultas de las vistas fuera del hilo de JavaFX y publica el resultado con Platform.runLater.
+// Un hilo virtual por pedido: lo que acota la concurrencia contra la base es el pool de Hikari.
+// Cada pedido tiene una clave; uno nuevo con la misma clave descarta al anterior, y al cambiar de vista
+// MainController descarta todos los pendientes. No se interrumpe el hilo (cerraría la conexión JDBC):
+// el resultado de un pedido cancelado simplemente no se publica.
+// cargar/cancelar se llaman desde el hilo de JavaFX.
+public final class CargadorAsync {
+
+    private static final ExecutorService HILOS =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("carga-", 0).factory());
+
+    // Pedidos sin publicar de todas las vistas
+    private static final Set<Pedido> PENDIENTES = new HashSet<>();
+
+    private static final class Pedido {
+        volatile boolean cancelado;
+    }
+
+    private final Map<String, Pedido> porClave = new HashMap<>();
+
+    public <T> void cargar(String clave, Supplier<T> consulta, Consumer<T> alTerminar) {
+        cargar(clave, consulta, alTerminar, CargadorAsync::mostrarError);
+    }
+
+    public <T> void cargar(String clave, Supplier<T> consulta, Consumer<T> alTerminar, Consumer<Throwable> alFallar) {
+        Pedido pedido = new Pedido();
+        descartar(porClave.put(clave, pedido));
+        PENDIENTES.add(pedido);
+        HILOS.execute(() -> {
+            if (pedido.cancelado) return;
+            T valor = null;
+            Throwable error = null;
+            try {
+                valor = consulta.get();
+            } catch (Throwable ex) {
+                error = ex;
+            }
+            T resultado = valor;
+            Throwable fallo = error;
+            Platform.runLater(() -> {
+                if (pedido.cancelado) return;
+                PENDIENTES.remove(pedido);
+                porClave.remove(clave, pedido);
+                if (fallo != null) alFallar.accept(fallo);
+                else alTerminar.accept(resultado);
+            });
+        });
+    }
+
+    // Descarta el pedido pendiente de esa clave, si lo hay
+    public void cancelar(String clave) {
+        descartar(porClave.remove(clave));
+    }
+
+    // Descarta los pedidos pendientes de esta vista
+    public void cancelar() {
+        porClave.values().forEach(CargadorAsync::descartar);
+        porClave.clear();
+    }
+
+    // Descarta los pedidos pendientes de todas las vistas (al navegar a otra)
+    public static void cancelarPendientes() {
+        PENDIENTES.forEach(p -> p.cancelado = true);
+        PENDIENTES.clear();
+    }
+
+    private static void descartar(Pedido p) {
+        if (p == null) return;
+        p.cancelado = true;
+        PENDIENTES.remove(p);
+    }
+
+    // Aviso por defecto cuando falla una carga
+    public static void mostrarError(Throwable ex) {
+        String m = ex.getMessage();
+        Alert a = new Alert(Alert.AlertType.ERROR);
+        a.setTitle("Error");
+        a.setHeaderText(null);
+        a.setContentText((m == null || m.isBlank()) ? "No se pudieron cargar los datos." : m);
+        a.show();
+    }
+}
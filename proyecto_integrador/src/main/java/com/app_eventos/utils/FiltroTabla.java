@@ -0,0 +1,114 @@
+package com.app_eventos.utils;
+
+import com.app_eventos.repository.Pagina;
+
+import javafx.animation.PauseTransition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Filtros de una tabla paginada (PaginadorTabla): los cambios seguidos se juntan en una sola búsqueda
+// (espera desde el último cambio), la primera página de cada filtro se reutiliza por un rato y se
+// cuentan las consultas que dispara cada interacción (log en debug). Las páginas en curso de un filtro
+// anterior ya las descarta el paginador al reiniciar. F es el filtro (record con equals por valor).
+public final class FiltroTabla<F, T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FiltroTabla.class);
+
+    // Tope de filtros recordados: al pasarlo se descartan los vencidos y, si no alcanza, todos
+    private static final int MAXIMO_FILTROS = 32;
+
+    private record Reciente<T>(Pagina<T> pagina, Instant vence) {}
+
+    private final String nombre;
+    private final Duration vigencia;
+    private final Runnable buscar;
+    private final PauseTransition espera;
+    private final Map<F, Reciente<T>> recientes = new ConcurrentHashMap<>();
+    // Sube al invalidar: una consulta lanzada antes no guarda su resultado (datos previos al cambio)
+    private final AtomicInteger generacion = new AtomicInteger();
+
+    // Interacción en curso: cambios de filtro agrupados, consultas a la base y páginas desde la cache
+    private int interaccion;
+    private int cambios;
+    private final AtomicInteger consultas = new AtomicInteger();
+    private final AtomicInteger desdeCache = new AtomicInteger();
+
+    public FiltroTabla(String nombre, Duration espera, Duration vigencia, Runnable buscar) {
+        this.nombre = nombre;
+        this.vigencia = vigencia;
+        this.buscar = buscar;
+        this.espera = new PauseTransition(javafx.util.Duration.millis(espera.toMillis()));
+        this.espera.setOnFinished(_ -> buscarAhora());
+    }
+
+    // Un filtro cambió: la búsqueda sale cuando dejan de llegar cambios
+    public void cambio() {
+        cambios++;
+        espera.playFromStart();
+    }
+
+    // Búsqueda inmediata con la cache vigente (cancela la espera pendiente)
+    public void buscarAhora() {
+        espera.stop();
+        nuevaInteraccion();
+        buscar.run();
+    }
+
+    // Los datos cambiaron (alta, baja, modificación): se olvida lo guardado y se busca ya
+    public void invalidarYBuscar() {
+        generacion.incrementAndGet();
+        recientes.clear();
+        buscarAhora();
+    }
+
+    // Consulta de una página para el Cargador del paginador; solo la primera pasa por la cache.
+    // Se arma en el hilo de JavaFX; el Supplier devuelto corre en segundo plano.
+    public Supplier<Pagina<T>> consulta(F filtro, T ultimo, Supplier<Pagina<T>> base) {
+        if (ultimo != null) return () -> contar(base);
+        int gen = generacion.get();
+        return () -> {
+            Reciente<T> r = recientes.get(filtro);
+            if (r != null && Instant.now().isBefore(r.vence())) {
+                desdeCache.incrementAndGet();
+                return r.pagina();
+            }
+            Pagina<T> pagina = contar(base);
+            if (gen == generacion.get()) {
+                if (recientes.size() >= MAXIMO_FILTROS) purgar();
+                recientes.put(filtro, new Reciente<>(pagina, Instant.now().plus(vigencia)));
+            }
+            return pagina;
+        };
+    }
+
+    private Pagina<T> contar(Supplier<Pagina<T>> base) {
+        consultas.incrementAndGet();
+        return base.get();
+    }
+
+    private void purgar() {
+        Instant ahora = Instant.now();
+        recientes.values().removeIf(r -> !ahora.isBefore(r.vence()));
+        if (recientes.size() >= MAXIMO_FILTROS) recientes.clear();
+    }
+
+    // Cierra la interacción anterior (con sus páginas por scroll incluidas) y empieza otra
+    private void nuevaInteraccion() {
+        if (interaccion > 0) {
+            LOG.debug("{} #{}: {} cambios de filtro, {} consultas, {} páginas desde cache",
+                      nombre, interaccion, cambios, consultas.get(), desdeCache.get());
+        }
+        interaccion++;
+        cambios = 0;
+        consultas.set(0);
+        desdeCache.set(0);
+    }
+}
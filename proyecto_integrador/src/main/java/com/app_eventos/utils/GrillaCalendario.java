@@ -0,0 +1,39 @@
+package com.app_eventos.utils;
+
+import com.app_eventos.model.enums.TipoEvento;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+// Contenido de la grilla del calendario (6 semanas x 7 días, domingo primero): qué día muestra cada
+// celda y cuántos eventos de cada tipo visible lo cubren. Tamaño fijo, sin importar cuántos eventos
+// tenga el mes: InicioController crea un nodo por celda y por tipo una sola vez y en cada redibujo
+// solo copia estos valores. Se reutiliza entre redibujos; llenar pisa todo lo anterior.
+public final class GrillaCalendario {
+
+    public static final int CELDAS = 42;
+
+    private final int[] dias = new int[CELDAS];     // 0 = celda fuera del mes
+    private final int[][] cantidades = new int[CELDAS][TipoEvento.values().length];
+
+    public void llenar(YearMonth mes, IndiceCalendario indice, int mascara) {
+        int primerDia = mes.atDay(1).getDayOfWeek().getValue() % 7;  // 0 = domingo
+        int diasEnMes = mes.lengthOfMonth();
+        for (int i = 0; i < CELDAS; i++) {
+            int dia = i - primerDia + 1;
+            boolean enMes = dia > 0 && dia <= diasEnMes;
+            dias[i] = enMes ? dia : 0;
+            LocalDate fecha = enMes ? mes.atDay(dia) : null;
+            // Sin recorrer eventos: el OR de tipos del día descarta los vacíos
+            boolean hay = enMes && indice.hayEventos(fecha, mascara);
+            for (TipoEvento tipo : TipoEvento.values()) {
+                cantidades[i][tipo.ordinal()] =
+                    (hay && (IndiceCalendario.bit(tipo) & mascara) != 0) ? indice.cantidad(fecha, tipo) : 0;
+            }
+        }
+    }
+
+    public int dia(int celda) { return dias[celda]; }
+
+    public int cantidad(int celda, TipoEvento tipo) { return cantidades[celda][tipo.ordinal()]; }
+}
@@ -0,0 +1,121 @@
+package com.app_eventos.utils;
+
+import com.app_eventos.model.Evento;
+import com.app_eventos.model.enums.TipoEvento;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+// Índice por día de los eventos de un mes, armado una vez por carga. Cada día guarda los eventos
+// que lo cubren (un evento de varios días aparece en cada uno) y los que empiezan ahí, en orden de
+// inicio; "eventos del día" y "eventos entre dos fechas" salen sin recorrer el mes entero.
+// El filtro por tipo es una máscara de bits sobre TipoEvento (bit = ordinal).
+public final class IndiceCalendario {
+
+    public static final int TODOS = (1 << TipoEvento.values().length) - 1;
+
+    private final LocalDate primerDia;
+    private final Evento[] eventos;     // orden de inicio
+    private final int[] bits;           // bit del tipo de cada evento
+    private final int[][] cubren;       // día -> eventos que lo cubren
+    private final int[][] empiezan;     // día -> eventos cuyo primer día dentro del mes es ese
+    private final int[] tiposDelDia;    // día -> OR de los bits de sus eventos
+    private final int[][] cantidades;   // día -> eventos por tipo (ordinal)
+
+    public IndiceCalendario(YearMonth mes, Collection<Evento> delMes) {
+        this.primerDia = mes.atDay(1);
+        int dias = mes.lengthOfMonth();
+        this.eventos = delMes.stream()
+                .sorted(Comparator.comparing(Evento::getFechaInicio)
+                        .thenComparing(Evento::getIdEvento, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toArray(Evento[]::new);
+        this.bits = new int[eventos.length];
+
+        // Dos pasadas: tamaños exactos y después el llenado (arreglos de int, sin cajas)
+        int[] desde = new int[eventos.length], hasta = new int[eventos.length];
+        int[] nCubren = new int[dias], nEmpiezan = new int[dias];
+        for (int i = 0; i < eventos.length; i++) {
+            bits[i] = bit(eventos[i].getTipoEvento());
+            desde[i] = Math.max(0, dia(eventos[i].getFechaInicio().toLocalDate()));
+            hasta[i] = Math.min(dias - 1, dia(eventos[i].getFechaFin().toLocalDate()));
+            if (desde[i] > hasta[i]) continue;  // fuera del mes
+            nEmpiezan[desde[i]]++;
+            for (int d = desde[i]; d <= hasta[i]; d++) nCubren[d]++;
+        }
+        this.cubren = new int[dias][];
+        this.empiezan = new int[dias][];
+        this.tiposDelDia = new int[dias];
+        this.cantidades = new int[dias][TipoEvento.values().length];
+        for (int d = 0; d < dias; d++) {
+            cubren[d] = new int[nCubren[d]];
+            empiezan[d] = new int[nEmpiezan[d]];
+            nCubren[d] = 0;
+            nEmpiezan[d] = 0;
+        }
+        for (int i = 0; i < eventos.length; i++) {
+            if (desde[i] > hasta[i]) continue;
+            empiezan[desde[i]][nEmpiezan[desde[i]]++] = i;
+            for (int d = desde[i]; d <= hasta[i]; d++) {
+                cubren[d][nCubren[d]++] = i;
+                tiposDelDia[d] |= bits[i];
+                if (eventos[i].getTipoEvento() != null) cantidades[d][eventos[i].getTipoEvento().ordinal()]++;
+            }
+        }
+    }
+
+    public static int bit(TipoEvento tipo) {
+        return tipo == null ? 0 : 1 << tipo.ordinal();
+    }
+
+    // Ningún tipo marcado equivale a no filtrar
+    public static int mascara(Collection<TipoEvento> tipos) {
+        int m = 0;
+        for (TipoEvento t : tipos) m |= bit(t);
+        return m == 0 ? TODOS : m;
+    }
+
+    // Sin recorrer eventos: alcanza con el OR de tipos del día
+    public boolean hayEventos(LocalDate dia, int mascara) {
+        int d = dia(dia);
+        return d >= 0 && d < tiposDelDia.length && (tiposDelDia[d] & mascara) != 0;
+    }
+
+    // Cuántos eventos de ese tipo cubren el día (sin recorrerlos)
+    public int cantidad(LocalDate dia, TipoEvento tipo) {
+        int d = dia(dia);
+        return (d < 0 || d >= cantidades.length) ? 0 : cantidades[d][tipo.ordinal()];
+    }
+
+    public List<Evento> delDia(LocalDate dia, int mascara) {
+        int d = dia(dia);
+        List<Evento> out = new ArrayList<>();
+        if (d < 0 || d >= cubren.length || (tiposDelDia[d] & mascara) == 0) return out;
+        agregar(out, cubren[d], mascara);
+        return out;
+    }
+
+    // Eventos que se superponen con [desde, hasta] (dentro del mes): los que cubren el primer día
+    // más los que empiezan en los siguientes; cada uno aparece una sola vez
+    public List<Evento> entre(LocalDate desde, LocalDate hasta, int mascara) {
+        int a = Math.max(0, dia(desde));
+        int b = Math.min(cubren.length - 1, dia(hasta));
+        List<Evento> out = new ArrayList<>();
+        if (a > b) return out;
+        agregar(out, cubren[a], mascara);
+        for (int d = a + 1; d <= b; d++) agregar(out, empiezan[d], mascara);
+        return out;
+    }
+
+    private void agregar(List<Evento> out, int[] indices, int mascara) {
+        for (int i : indices) if ((bits[i] & mascara) != 0) out.add(eventos[i]);
+    }
+
+    private int dia(LocalDate fecha) {
+        return (int) ChronoUnit.DAYS.between(primerDia, fecha);
+    }
+}
@@ -1,13 +1,47 @@
 package com.app_eventos.utils;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Único EntityManagerFactory de la aplicación. Repositorio y cualquier otra API lo comparten,
+// junto con el pool de conexiones (HikariCP) configurado en persistence.xml.
 public final class JPAUtil {
 
     private static final String PU_NAME = "app_eventosPU";
-    private static final EntityManagerFactory EMF = Persistence.createEntityManagerFactory(PU_NAME);
+    private static final EntityManagerFactory EMF =
+            Persistence.createEntityManagerFactory(PU_NAME, propiedadesDelSistema());
+
+    // Si el pool supera este uso (ms) se cuenta como posible fuga; mismo valor que leakDetectionThreshold.
+    private static final long UMBRAL_USO_PROLONGADO_MS = 20_000;
+
+    private static final MetricasPool METRICAS = new MetricasPool();
+    private static final HikariDataSource POOL = registrarMetricas();
+
+    static {
+        // Esquema versionado: aplica las migraciones pendientes de db/migraciones
+        MigradorEsquema.ejecutar(EMF);
+    }
 
     private JPAUtil() {}
 
@@ -26,8 +60,105 @@ public final class JPAUtil {
         return EMF;
     }
 
+    /** Foto del estado del pool: tamaño, latencia de adquisición y usos prolongados (posibles fugas). */
+    public static EstadisticasPool estadisticasPool() {
+        if (POOL == null) return EstadisticasPool.VACIAS;
+        HikariPoolMXBean mx = POOL.getHikariPoolMXBean();
+        int activas = mx == null ? 0 : mx.getActiveConnections();
+        int inactivas = mx == null ? 0 : mx.getIdleConnections();
+        int total = mx == null ? 0 : mx.getTotalConnections();
+        int esperando = mx == null ? 0 : mx.getThreadsAwaitingConnection();
+        return new EstadisticasPool(
+            activas, inactivas, total, esperando, POOL.getMaximumPoolSize(),
+            METRICAS.adquisiciones.sum(),
+            METRICAS.latenciaPromedioMs(),
+            TimeUnit.NANOSECONDS.toMillis(METRICAS.latenciaMaximaNanos.get()),
+            METRICAS.timeouts.sum(),
+            METRICAS.usosProlongados.sum()
+        );
+    }
+
+    /** Aciertos y fallos por región de la cache de segundo nivel (entidades y consultas). */
+    public static List<EstadisticasCache> estadisticasCache() {
+        Statistics st = EMF.unwrap(SessionFactory.class).getStatistics();
+        List<EstadisticasCache> out = new ArrayList<>();
+        for (String region : st.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics r = st.getCacheRegionStatistics(region);
+            if (r != null) out.add(new EstadisticasCache(region, r.getHitCount(), r.getMissCount(), r.getPutCount()));
+        }
+        return out;
+    }
+
     /** Cierra el EMF al apagar la app. Llamar una sola vez. */
     public static void close() {
         if (EMF != null && EMF.isOpen()) EMF.close();
     }
+
+    // Permite reemplazar la conexión de persistence.xml con -Djakarta.persistence.* / -Dhibernate.*
+    // (por ejemplo, una base H2 en memoria para los tests)
+    private static Map<String, Object> propiedadesDelSistema() {
+        Map<String, Object> props = new HashMap<>();
+        for (String clave : System.getProperties().stringPropertyNames()) {
+            if (clave.startsWith("jakarta.persistence.") || clave.startsWith("hibernate."))
+                props.put(clave, System.getProperty(clave));
+        }
+        return props;
+    }
+
+    // Engancha el contador de métricas al pool que creó Hibernate
+    private static HikariDataSource registrarMetricas() {
+        try {
+            ConnectionProvider cp = EMF.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(ConnectionProvider.class);
+            if (cp == null || !cp.isUnwrappableAs(HikariDataSource.class)) return null;
+            HikariDataSource ds = cp.unwrap(HikariDataSource.class);
+            ds.setMetricsTrackerFactory(METRICAS);
+            return ds;
+        } catch (RuntimeException ex) {
+            // Sin pool Hikari (otro proveedor configurado): las estadísticas quedan vacías
+            return null;
+        }
+    }
+
+    public record EstadisticasPool(int activas, int inactivas, int total, int esperando, int maximo,
+                                   long adquisiciones, double latenciaPromedioMs, long latenciaMaximaMs,
+                                   long timeouts, long usosProlongados) {
+        static final EstadisticasPool VACIAS = new EstadisticasPool(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    public record EstadisticasCache(String region, long aciertos, long fallos, long escrituras) {
+        public double tasaAciertos() {
+            long total = aciertos + fallos;
+            return total == 0 ? 0 : (double) aciertos / total;
+        }
+    }
+
+    // Acumula los tiempos que informa Hikari sin bloquear a los hilos que piden conexión
+    private static final class MetricasPool implements MetricsTrackerFactory, IMetricsTracker {
+        final LongAdder adquisiciones = new LongAdder();
+        final LongAdder nanosAdquisicion = new LongAdder();
+        final LongAccumulator latenciaMaximaNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder timeouts = new LongAdder();
+        final LongAdder usosProlongados = new LongAdder();
+
+        @Override public IMetricsTracker create(String poolName, PoolStats poolStats) { return this; }
+
+        @Override public void recordConnectionAcquiredNanos(long nanos) {
+            adquisiciones.increment();
+            nanosAdquisicion.add(nanos);
+            latenciaMaximaNanos.accumulate(nanos);
+        }
+
+        @Override public void recordConnectionUsageMillis(long millis) {
+            if (millis >= UMBRAL_USO_PROLONGADO_MS) usosProlongados.increment();
+        }
+
+        @Override public void recordConnectionTimeout() { timeouts.increment(); }
+
+        double latenciaPromedioMs() {
+            long n = adquisiciones.sum();
+            return n == 0 ? 0 : nanosAdquisicion.sum() / (double) n / 1_000_000d;
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package com.app_eventos.utils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+
+import org.hibernate.Session;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Aplica al arrancar los scripts de db/migraciones que todavía no corrieron, en orden de versión.
+// Cada script aplicado queda registrado en 'esquema_version'; todo corre en una sola transacción.
+final class MigradorEsquema {
+
+    private static final String CARPETA = "/db/migraciones/";
+
+    // Orden de aplicación. Agregar scripts nuevos al final; nunca editar uno ya aplicado.
+    private static final List<String> SCRIPTS = List.of(
+        "V1__esquema_base.sql",
+        "V2__inscripciones_unificadas.sql",
+        "V3__indices_consultas.sql",
+        "V4__coordinacion_instancias.sql"
+    );
+
+    private MigradorEsquema() {}
+
+    static void ejecutar(EntityManagerFactory emf) {
+        // Si Hibernate administra el esquema (p. ej. tests con create-drop) no hay nada que migrar
+        Object auto = emf.getProperties().get("hibernate.hbm2ddl.auto");
+        if (auto != null && !"none".equals(auto) && !"validate".equals(auto)) return;
+
+        EntityManager em = emf.createEntityManager();
+        EntityTransaction t = em.getTransaction();
+        try {
+            t.begin();
+            em.unwrap(Session.class).doWork(MigradorEsquema::migrar);
+            t.commit();
+        } catch (RuntimeException ex) {
+            if (t.isActive()) t.rollback();
+            throw ex;
+        } finally {
+            em.close();
+        }
+    }
+
+    private static void migrar(Connection cn) throws SQLException {
+        try (Statement st = cn.createStatement()) {
+            st.execute("create table if not exists esquema_version (" +
+                       "version integer primary key, " +
+                       "script varchar(200) not null, " +
+                       "aplicada timestamp not null default current_timestamp)");
+            // Dos instancias arrancando a la vez: la segunda espera y ya encuentra todo aplicado
+            st.execute("lock table esquema_version in exclusive mode");
+
+            Set<Integer> aplicadas = new HashSet<>();
+            try (ResultSet rs = st.executeQuery("select version from esquema_version")) {
+                while (rs.next()) aplicadas.add(rs.getInt(1));
+            }
+
+            for (String script : SCRIPTS) {
+                int version = version(script);
+                if (aplicadas.contains(version)) continue;
+                for (String sentencia : sentencias(leer(script))) st.execute(sentencia);
+                try (PreparedStatement ps = cn.prepareStatement(
+                        "insert into esquema_version (version, script) values (?, ?)")) {
+                    ps.setInt(1, version);
+                    ps.setString(2, script);
+                    ps.executeUpdate();
+                }
+            }
+        }
+    }
+
+    // "V12__algo.sql" -> 12
+    private static int version(String script) {
+        int fin = script.indexOf("__");
+        if (!script.startsWith("V") || fin < 2) throw new IllegalStateException("Nombre de migración inválido: " + script);
+        return Integer.parseInt(script.substring(1, fin));
+    }
+
+    private static String leer(String script) {
+        try (InputStream in = MigradorEsquema.class.getResourceAsStream(CARPETA + script)) {
+            if (in == null) throw new IllegalStateException("No se encontró la migración " + script);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Separa por ';' respetando comentarios '--', literales '...' y bloques $$ ... $$ (do/funciones)
+    private static List<String> sentencias(String sql) {
+        List<String> out = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        boolean enLiteral = false, enDolar = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (!enLiteral && !enDolar && c == '-' && i + 1 < sql.length() && sql.charAt(i + 1) == '-') {
+                while (i < sql.length() && sql.charAt(i) != '\n') i++;
+                actual.append('\n');
+                continue;
+            }
+            if (!enDolar && c == '\'') enLiteral = !enLiteral;
+            if (!enLiteral && c == '$' && i + 1 < sql.length() && sql.charAt(i + 1) == '$') {
+                enDolar = !enDolar;
+                actual.append("$$");
+                i++;
+                continue;
+            }
+            if (c == ';' && !enLiteral && !enDolar) {
+                if (!actual.toString().isBlank()) out.add(actual.toString().trim());
+                actual.setLength(0);
+                continue;
+            }
+            actual.append(c);
+        }
+        if (!actual.toString().isBlank()) out.add(actual.toString().trim());
+        return out;
+    }
+}
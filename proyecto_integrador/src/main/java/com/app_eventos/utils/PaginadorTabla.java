@@ -0,0 +1,103 @@
+package com.app_eventos.utils;
+
+import com.app_eventos.repository.Pagina;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableView;
+
+import java.util.function.Supplier;
+
+// Carga un TableView por páginas: trae la primera al reiniciar y la siguiente
+// cuando el scroll vertical llega cerca del final. Solo se mantiene en memoria lo recorrido.
+// Las páginas se traen fuera del hilo de JavaFX (CargadorAsync); reiniciar descarta la que esté en curso.
+public class PaginadorTabla<T> {
+
+    // Arma la consulta de la página que sigue a 'ultimo' (null para la primera). Se llama en el
+    // hilo de JavaFX (leer filtros de la vista); el Supplier devuelto corre en segundo plano.
+    @FunctionalInterface
+    public interface Cargador<T> {
+        Supplier<Pagina<T>> consulta(T ultimo, int tamanio);
+    }
+
+    private static final double UMBRAL_SCROLL = 0.9;
+
+    private final TableView<T> tabla;
+    private final int tamanio;
+    private final Cargador<T> cargador;
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+    private final CargadorAsync async = new CargadorAsync();
+    private final ProgressIndicator indicador = new ProgressIndicator();
+    private Node placeholder;
+
+    private T ultimo;
+    private boolean hayMas;
+    private boolean cargando;
+    private boolean scrollEnganchado;
+
+    public PaginadorTabla(TableView<T> tabla, int tamanio, Cargador<T> cargador) {
+        if (tamanio <= 0) throw new IllegalArgumentException("Tamaño de página inválido.");
+        this.tabla = tabla;
+        this.tamanio = tamanio;
+        this.cargador = cargador;
+
+        tabla.setItems(items);
+        // La barra de scroll existe recién cuando la tabla tiene skin
+        tabla.skinProperty().addListener((_, _, skin) -> { if (skin != null) engancharScroll(); });
+        if (tabla.getSkin() != null) engancharScroll();
+    }
+
+    // Descarta lo cargado y vuelve a la primera página (tras filtrar o modificar datos)
+    public void reiniciar() {
+        items.clear();
+        ultimo = null;
+        hayMas = true;
+        cargando = false;
+        cargarSiguiente();
+    }
+
+    public void cargarSiguiente() {
+        if (!hayMas || cargando) return;
+        cargando = true;
+        boolean primera = (ultimo == null);
+        if (primera) mostrarIndicador();
+        async.cargar("pagina", cargador.consulta(ultimo, tamanio), pagina -> {
+            cargando = false;
+            tabla.setPlaceholder(placeholder);
+            items.addAll(pagina.items());
+            if (pagina.ultimo() != null) ultimo = pagina.ultimo();
+            hayMas = pagina.hayMas();
+            if (primera && !items.isEmpty()) tabla.scrollTo(0);
+        }, ex -> {
+            // Se corta el scroll infinito hasta el próximo reiniciar
+            cargando = false;
+            hayMas = false;
+            tabla.setPlaceholder(placeholder);
+            CargadorAsync.mostrarError(ex);
+        });
+    }
+
+    public ObservableList<T> getItems() { return items; }
+
+    // El placeholder propio de la tabla se toma recién acá (el controlador puede fijarlo después de crearnos)
+    private void mostrarIndicador() {
+        if (tabla.getPlaceholder() != indicador) placeholder = tabla.getPlaceholder();
+        tabla.setPlaceholder(indicador);
+    }
+
+    private void engancharScroll() {
+        if (scrollEnganchado) return;
+        for (Node n : tabla.lookupAll(".scroll-bar")) {
+            if (n instanceof ScrollBar barra && barra.getOrientation() == Orientation.VERTICAL) {
+                barra.valueProperty().addListener((_, _, valor) -> {
+                    if (hayMas && valor.doubleValue() >= barra.getMax() * UMBRAL_SCROLL) cargarSiguiente();
+                });
+                scrollEnganchado = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.app_eventos.utils;
+
+// Controlador de una vista reutilizada por CacheVistas: se le avisa cada vez que su vista
+// vuelve a mostrarse, para que relea sus datos o vuelva al estado inicial.
+@FunctionalInterface
+public interface Refrescable {
+    void refrescar();
+}
@@ -0,0 +1,158 @@
+package com.app_eventos.utils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+
+import org.hibernate.Session;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Lista qué índice usa cada consulta frecuente de Repositorio según EXPLAIN (PostgreSQL).
+// Se desactiva el seq scan dentro de la transacción: así el plan muestra si la consulta
+// PUEDE resolverse por índice aunque la base de desarrollo tenga pocas filas.
+// Uso: mvn exec:java   (o ejecutar esta clase contra la base configurada en persistence.xml)
+public final class VerificadorIndices {
+
+    // SQL equivalente al JPQL de cada método (mismos filtros y orden, parámetros de ejemplo)
+    private record Consulta(String metodo, String sql) {}
+
+    private static final List<Consulta> CONSULTAS = List.of(
+        new Consulta("buscarFilasEventos (sin filtros)",
+            "select e.idEvento from evento e where e.activo = true " +
+            "and (e.fechaInicio, e.idEvento) > (timestamp '2025-01-01', 0) " +
+            "order by e.fechaInicio, e.idEvento limit 101"),
+        new Consulta("buscarFilasEventos (estado)",
+            "select e.idEvento from evento e where e.activo = true and e.estado = 'CONFIRMADO' " +
+            "order by e.fechaInicio, e.idEvento limit 101"),
+        new Consulta("buscarFilasEventos (tipo)",
+            "select e.idEvento from evento e where e.activo = true and e.tipoEvento = 'TALLER' " +
+            "order by e.fechaInicio, e.idEvento limit 101"),
+        new Consulta("buscarFilasEventos (responsables de la página)",
+            "select r.evento_idevento, p.nombre, p.apellido, r.tipo from rol_evento r " +
+            "join persona p on p.idPersona = r.persona_idpersona " +
+            "where r.evento_idevento in (1, 2, 3) and r.activo = true order by r.id"),
+        new Consulta("buscarEventos (rango de fechas)",
+            "select e.idEvento from evento e where e.activo = true " +
+            "and e.fechaFin >= timestamp '2025-01-01' and e.fechaInicio <= timestamp '2025-01-31 23:59:59'"),
+        new Consulta("eventosConInscripcion (abiertos)",
+            "select e.idEvento, coalesce(c.cupoMaximo, t.cupoMaximo, cc.cupoMaximo) from evento e " +
+            "left join concierto c on c.idEvento = e.idEvento " +
+            "left join taller t on t.idEvento = e.idEvento " +
+            "left join cicloCine cc on cc.idEvento = e.idEvento " +
+            "where e.activo = true and e.tipoEvento in ('CONCIERTO', 'TALLER', 'CICLO_CINE') " +
+            "and e.estado = 'CONFIRMADO' and e.fechaFin > timestamp '2025-01-01 10:00' " +
+            "order by e.fechaInicio, e.idEvento"),
+        new Consulta("metricasTablero (eventos activos)",
+            "select count(*) from evento e where e.activo = true and e.estado = 'CONFIRMADO' " +
+            "and e.fechaFin > timestamp '2025-01-01 10:00'"),
+        new Consulta("aplicarTransiciones (a EJECUCIÓN)",
+            "select e.idEvento from evento e where e.activo = true and e.estado = 'CONFIRMADO' " +
+            "and e.fechaInicio <= timestamp '2025-01-01 10:00' and e.fechaFin > timestamp '2025-01-01 10:00'"),
+        new Consulta("proximosLimites (fin)",
+            "select distinct e.fechaFin from evento e where e.activo = true " +
+            "and e.estado in ('CONFIRMADO', 'EJECUCIÓN') and e.fechaFin > timestamp '2025-01-01 10:00'"),
+        new Consulta("listarPersonasPagina",
+            "select p.idPersona from persona p where p.activo = true " +
+            "and (p.apellido, p.nombre, p.idPersona) > ('M', '', 0) " +
+            "order by p.apellido, p.nombre, p.idPersona limit 201"),
+        new Consulta("listarPeliculasPagina",
+            "select p.idPelicula from pelicula p where p.activo = true " +
+            "and (p.titulo, p.idPelicula) > ('M', 0) order by p.titulo, p.idPelicula limit 201"),
+        new Consulta("personaTieneRolEnEvento",
+            "select count(*) from rol_evento r " +
+            "where r.evento_idevento = 1 and r.persona_idpersona = 1 and r.activo = true"),
+        new Consulta("validarReglasDeRol (conteo agrupado)",
+            "select r.evento_idevento, r.tipo, count(*) from rol_evento r " +
+            "where r.evento_idevento in (1) and r.activo = true group by r.evento_idevento, r.tipo"),
+        new Consulta("obtenerRolesDeEvento",
+            "select r.id from rol_evento r join persona p on p.idPersona = r.persona_idpersona " +
+            "where r.evento_idevento = 1 and r.activo = true order by r.id desc"),
+        new Consulta("agregarParticipante (inscripción existente)",
+            "select i.idInscripcion from inscripcion i where i.evento_id = 1 and i.persona_id = 1"),
+        new Consulta("obtenerParticipantes",
+            "select p.idPersona from inscripcion i join persona p on p.idPersona = i.persona_id " +
+            "where i.evento_id = 1 and i.activo = true and p.activo = true order by p.apellido, p.nombre"),
+        new Consulta("buscarParticipantes (un evento)",
+            "select i.idInscripcion from inscripcion i join evento e on e.idEvento = i.evento_id " +
+            "join persona p on p.idPersona = i.persona_id " +
+            "where i.evento_id = 1 and i.activo = true and e.activo = true and p.activo = true " +
+            "order by e.fechaInicio, e.idEvento, p.apellido, p.nombre, p.idPersona limit 201"),
+        new Consulta("personasElegiblesParaInscripcion",
+            "select p.idPersona from persona p where p.activo = true " +
+            "and not exists (select 1 from rol_evento r where r.evento_idevento = 1 " +
+            "                and r.persona_idpersona = p.idPersona and r.activo = true) " +
+            "and not exists (select 1 from inscripcion i where i.evento_id = 1 " +
+            "                and i.persona_id = p.idPersona and i.activo = true) " +
+            "order by p.apellido, p.nombre"),
+        new Consulta("obtenerPeliculas (películas del ciclo)",
+            "select c.pelicula_id from ciclo_cine_peliculas c where c.ciclo_id = 1")
+    );
+
+    private static final Pattern INDICE = Pattern.compile("(?:Index Scan|Index Only Scan|Bitmap Index Scan)(?: Backward)? (?:using|on) (\\S+)");
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\S+)");
+
+    private VerificadorIndices() {}
+
+    public static void main(String[] args) {
+        try {
+            verificar().forEach((metodo, uso) -> System.out.printf("%-45s %s%n", metodo, uso));
+        } finally {
+            JPAUtil.close();
+        }
+    }
+
+    // metodo -> índices usados (o las tablas recorridas completas)
+    public static Map<String, String> verificar() {
+        Map<String, String> out = new LinkedHashMap<>();
+        EntityManager em = JPAUtil.em();
+        EntityTransaction t = em.getTransaction();
+        try {
+            t.begin();
+            em.unwrap(Session.class).doWork(cn -> {
+                try (Statement st = cn.createStatement()) {
+                    st.execute("set local enable_seqscan = off");
+                }
+                for (Consulta c : CONSULTAS) out.put(c.metodo(), describir(plan(cn, c.sql())));
+            });
+        } finally {
+            // Solo lectura: se descarta el 'set local'
+            if (t.isActive()) t.rollback();
+            em.close();
+        }
+        return out;
+    }
+
+    private static List<String> plan(Connection cn, String sql) throws SQLException {
+        List<String> lineas = new ArrayList<>();
+        try (Statement st = cn.createStatement();
+             ResultSet rs = st.executeQuery("explain " + sql)) {
+            while (rs.next()) lineas.add(rs.getString(1));
+        }
+        return lineas;
+    }
+
+    private static String describir(List<String> plan) {
+        Set<String> indices = new LinkedHashSet<>();
+        Set<String> secuenciales = new LinkedHashSet<>();
+        for (String linea : plan) {
+            Matcher m = INDICE.matcher(linea);
+            while (m.find()) indices.add(m.group(1));
+            Matcher s = SEQ_SCAN.matcher(linea);
+            while (s.find()) secuenciales.add(s.group(1));
+        }
+        StringBuilder sb = new StringBuilder(indices.isEmpty() ? "SIN ÍNDICE" : String.join(", ", indices));
+        if (!secuenciales.isEmpty()) sb.append("  [seq scan: ").append(String.join(", ", secuenciales)).append(']');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,93 @@
+-- Esquema base (equivalente a lo que generaba hbm2ddl=update).
+-- Idempotente: sobre una base ya creada por Hibernate solo agrega lo que falte.
+
+create table if not exists persona (
+    idPersona bigint generated by default as identity primary key,
+    activo boolean not null,
+    apellido varchar(80) not null,
+    dni varchar(10) not null unique,
+    email varchar(254),
+    nombre varchar(80) not null,
+    telefono varchar(15) not null unique
+);
+
+create table if not exists pelicula (
+    idPelicula bigint generated by default as identity primary key,
+    activo boolean not null,
+    duracionMinutos integer,
+    tipo varchar(255) check (tipo in ('DOS_D','TRES_D')),
+    titulo varchar(255) not null
+);
+
+create table if not exists evento (
+    idEvento bigint generated by default as identity primary key,
+    activo boolean not null,
+    estado varchar(255) not null check (estado in ('PLANIFICACIÓN','CONFIRMADO','EJECUCIÓN','FINALIZADO')),
+    fechaFin timestamp(6) not null,
+    fechaInicio timestamp(6) not null,
+    inscriptos integer default 0 not null,
+    nombre varchar(255) not null,
+    tipoEvento varchar(255) not null check (tipoEvento in ('FERIA','CONCIERTO','EXPOSICION','TALLER','CICLO_CINE'))
+);
+
+-- Columna agregada junto con el contador de cupo
+alter table evento add column if not exists inscriptos integer default 0 not null;
+
+create table if not exists concierto (
+    idEvento bigint primary key references evento,
+    cupoMaximo integer not null,
+    tipoEntrada varchar(255) not null check (tipoEntrada in ('GRATUITA','PAGA'))
+);
+
+create table if not exists taller (
+    idEvento bigint primary key references evento,
+    cupoMaximo integer not null,
+    modalidad varchar(255) not null check (modalidad in ('PRESENCIAL','VIRTUAL'))
+);
+
+create table if not exists cicloCine (
+    idEvento bigint primary key references evento,
+    cupoMaximo integer not null,
+    postCharla boolean not null
+);
+
+create table if not exists exposicion (
+    idEvento bigint primary key references evento,
+    tipoArte varchar(255) not null check (tipoArte in ('FOTOGRAFIA','PINTURA'))
+);
+
+create table if not exists feria (
+    idEvento bigint primary key references evento,
+    ambiente varchar(255) check (ambiente in ('AIRE_LIBRE','TECHADO')),
+    cantidadStands integer
+);
+
+create table if not exists ciclo_cine_peliculas (
+    ciclo_id bigint not null references cicloCine,
+    pelicula_id bigint not null references pelicula,
+    primary key (ciclo_id, pelicula_id)
+);
+
+create table if not exists rol_evento (
+    id bigint generated by default as identity primary key,
+    activo boolean not null,
+    tipo varchar(32) not null check (tipo in ('ORGANIZADOR','ARTISTA','INSTRUCTOR','CURADOR')),
+    evento_idevento bigint not null references evento,
+    persona_idpersona bigint not null references persona
+);
+
+create table if not exists inscripcion (
+    idInscripcion bigint generated by default as identity primary key,
+    activo boolean not null,
+    fechaInscripcion timestamp(6) not null,
+    evento_id bigint not null references evento,
+    persona_id bigint not null references persona,
+    constraint uk_inscripcion_evento_persona unique (evento_id, persona_id)
+);
+
+-- Índices declarados en las entidades (@Index)
+create index if not exists idx_evento_activo_inicio on evento (activo, fechaInicio, idEvento);
+create index if not exists idx_persona_activo_apellido on persona (activo, apellido, nombre, idPersona);
+create index if not exists idx_pelicula_activo_titulo on pelicula (activo, titulo, idPelicula);
+create index if not exists idx_inscripcion_evento_activo on inscripcion (evento_id, activo);
+create index if not exists idx_inscripcion_persona_activo on inscripcion (persona_id, activo);
@@ -0,0 +1,27 @@
+-- Pasa los participantes de las tablas por tipo (anteriores a 'inscripcion')
+-- y las renombra con sufijo _migrada. Si no existen, no hace nada.
+do $$
+declare
+    tabla text;
+begin
+    foreach tabla in array array['concierto_participante', 'taller_participante', 'cine_participante'] loop
+        if to_regclass(tabla) is not null then
+            execute format(
+                'insert into inscripcion (evento_id, persona_id, fechaInscripcion, activo) '
+                || 'select distinct l.evento_id, l.persona_id, current_timestamp, true from %I l '
+                || 'where not exists (select 1 from inscripcion i '
+                || '                  where i.evento_id = l.evento_id and i.persona_id = l.persona_id)', tabla);
+            execute format('alter table %I rename to %I', tabla, tabla || '_migrada');
+        end if;
+    end loop;
+end $$;
+
+-- Contador de cupo alineado con las inscripciones activas
+update evento e
+   set inscriptos = c.total
+  from (select e2.idEvento, count(i.idInscripcion) as total
+          from evento e2
+          left join inscripcion i on i.evento_id = e2.idEvento and i.activo
+         group by e2.idEvento) c
+ where c.idEvento = e.idEvento
+   and e.inscriptos <> c.total;
@@ -0,0 +1,18 @@
+-- Índices para las consultas de Repositorio. Los parciales (where activo) excluyen
+-- las bajas lógicas, que nunca se listan. VerificadorIndices muestra qué consulta usa cada uno.
+
+-- Eventos: filtros del ABM (estado / tipo + orden por fechaInicio) y rango del calendario
+create index if not exists idx_evento_estado_inicio on evento (estado, fechaInicio, idEvento) where activo;
+create index if not exists idx_evento_tipo_inicio on evento (tipoEvento, fechaInicio, idEvento) where activo;
+create index if not exists idx_evento_fin on evento (fechaFin) where activo;
+
+-- Roles: búsqueda por (evento, persona), conteo por tipo y roles de una persona
+create index if not exists idx_rol_evento_evento_persona on rol_evento (evento_idevento, persona_idpersona, activo);
+create index if not exists idx_rol_evento_evento_tipo on rol_evento (evento_idevento, tipo) where activo;
+create index if not exists idx_rol_evento_persona on rol_evento (persona_idpersona) where activo;
+
+-- Inscripciones activas de un evento (participantes, elegibles, duplicados)
+create index if not exists idx_inscripcion_evento_persona_activa on inscripcion (evento_id, persona_id) where activo;
+
+-- Ciclos que proyectan una película (la PK ya cubre ciclo_id)
+create index if not exists idx_ciclo_cine_peliculas_pelicula on ciclo_cine_peliculas (pelicula_id);
@@ -0,0 +1,16 @@
+-- Varias instancias contra la misma base.
+
+-- Control optimista de concurrencia sobre eventos (@Version en Evento)
+alter table evento add column if not exists version bigint not null default 0;
+
+-- Turnos de mantenimiento: cada tarea guarda hasta qué instante ya fue procesada.
+-- La instancia que logra avanzar 'procesado_hasta' (UPDATE condicional) es la única que la ejecuta.
+create table if not exists turno_mantenimiento (
+    tarea varchar(50) primary key,
+    procesado_hasta timestamp not null,
+    titular varchar(100)
+);
+
+insert into turno_mantenimiento (tarea, procesado_hasta)
+select 'estados', timestamp '2000-01-01 00:00:00'
+where not exists (select 1 from turno_mantenimiento where tarea = 'estados');
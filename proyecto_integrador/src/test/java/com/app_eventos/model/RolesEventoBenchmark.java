@@ -0,0 +1,118 @@
+package com.app_eventos.model;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.app_eventos.model.enums.TipoRol;
+
+/**
+ * Chequeos de roles de un concierto con muchos responsables: índices de Evento contra
+ * el recorrido anterior (copia de getRoles() + stream por cada consulta).
+ * 'guardadas': personas con id, consultadas con otra instancia del mismo id (como llegan de
+ * otra consulta); el índice se arma por id. 'nuevas': sin id, el índice usa la propia instancia.
+ * Uso: ejecutar main desde el IDE, o con el classpath de test: java com.app_eventos.model.RolesEventoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RolesEventoBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int responsables;
+
+    @Param({"guardadas", "nuevas"})
+    private String personas;
+
+    private Concierto concierto;
+    private Persona ultima;
+    private Persona ajena;
+
+    @Setup
+    public void preparar() {
+        LocalDate dia = LocalDate.now().plusDays(30);
+        concierto = new Concierto();
+        concierto.setNombre("Festival");
+        concierto.setFechas(dia, LocalTime.of(18, 0), dia, LocalTime.of(23, 0));
+        concierto.agregarResponsable(persona(0), TipoRol.ORGANIZADOR);
+        for (int i = 1; i < responsables; i++) {
+            ultima = persona(i);
+            concierto.agregarResponsable(ultima, TipoRol.ARTISTA);
+        }
+        if (guardadas()) ultima = persona(responsables - 1);
+        ajena = persona(responsables);
+    }
+
+    private boolean guardadas() { return "guardadas".equals(personas); }
+
+    // Lo que hace una validación de estado o de alta de rol: reglas obligatorias y persona repetida
+    @Benchmark
+    public void conIndices(Blackhole bh) {
+        concierto.validarRol();
+        bh.consume(concierto.contarRol(TipoRol.ARTISTA));
+        bh.consume(concierto.personaTieneRol(ultima));
+        bh.consume(concierto.personaTieneRol(ajena));
+    }
+
+    // Mismas consultas como se resolvían antes: cada una copia la lista y la recorre
+    @Benchmark
+    public void recorriendoRoles(Blackhole bh) {
+        if (contarCopiando(TipoRol.ORGANIZADOR) == 0) throw new IllegalStateException();
+        bh.consume(contarCopiando(TipoRol.ARTISTA));
+        bh.consume(tieneRolCopiando(ultima));
+        bh.consume(tieneRolCopiando(ajena));
+    }
+
+    private int contarCopiando(TipoRol rol) {
+        List<RolEvento> copia = new ArrayList<>(concierto.getRoles());
+        return (int) copia.stream().filter(r -> r.getRol() == rol).count();
+    }
+
+    private boolean tieneRolCopiando(Persona p) {
+        List<RolEvento> copia = new ArrayList<>(concierto.getRoles());
+        return copia.stream().anyMatch(r -> r.getPersona().equals(p));
+    }
+
+    private Persona persona(int i) {
+        Persona p = new Persona("Nombre" + i, "Apellido" + i, String.valueOf(20000000 + i), String.valueOf(1100000 + i), null);
+        if (guardadas()) asignarId(p, i + 1L);
+        return p;
+    }
+
+    // El id lo asigna Hibernate al persistir; acá se simula sin base
+    private static void asignarId(Persona p, long id) {
+        try {
+            Field f = Persona.class.getDeclaredField("idPersona");
+            f.setAccessible(true);
+            f.set(p, id);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RolesEventoBenchmark.class.getSimpleName()).build()).run();
+    }
+}
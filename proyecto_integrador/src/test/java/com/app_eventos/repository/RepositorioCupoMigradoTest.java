@@ -0,0 +1,84 @@
+package com.app_eventos.repository;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.app_eventos.utils.JPAUtil;
+
+/**
+ * Los mismos casos de cupo sobre el esquema que arman las migraciones (db/migraciones), no el
+ * que genera Hibernate: PostgreSQL con un esquema vacío, hbm2ddl = none y MigradorEsquema al
+ * iniciar JPAUtil. Las migraciones usan SQL propio de PostgreSQL (bloques do $$, lock table), por
+ * eso no corre sobre H2.
+ * Opcional: solo corre con -Dprueba.pg.url (más -Dprueba.pg.usuario y -Dprueba.pg.clave) apuntando
+ * a una base de pruebas; crea y borra ahí el esquema prueba_migraciones. Sin valores por defecto:
+ * un mvn test común no toca ninguna base PostgreSQL.
+ */
+public class RepositorioCupoMigradoTest extends RepositorioCupoTest {
+
+    private static final String ESQUEMA = "prueba_migraciones";
+
+    private static final String URL = System.getProperty("prueba.pg.url");
+    private static final String USUARIO = System.getProperty("prueba.pg.usuario");
+    private static final String CLAVE = System.getProperty("prueba.pg.clave");
+
+    private static boolean creado;
+
+    // Corre después de RepositorioCupoTest.baseEnMemoria y reemplaza su configuración
+    @BeforeClass
+    public static void esquemaMigrado() {
+        Assume.assumeNotNull(URL);
+        try {
+            recrearEsquema(false);
+            creado = true;
+        } catch (SQLException ex) {
+            Assume.assumeNoException("PostgreSQL no disponible en " + URL, ex);
+        }
+        System.setProperty("jakarta.persistence.jdbc.url", URL + (URL.contains("?") ? "&" : "?") + "currentSchema=" + ESQUEMA);
+        System.setProperty("jakarta.persistence.jdbc.driver", "org.postgresql.Driver");
+        if (USUARIO != null) System.setProperty("jakarta.persistence.jdbc.user", USUARIO);
+        if (CLAVE != null) System.setProperty("jakarta.persistence.jdbc.password", CLAVE);
+        System.setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        System.setProperty("hibernate.hbm2ddl.auto", "none");
+    }
+
+    @AfterClass
+    public static void borrarEsquema() throws SQLException {
+        if (!creado) return;
+        JPAUtil.close();
+        recrearEsquema(true);
+    }
+
+    @Test
+    public void aplicaTodasLasMigraciones() {
+        EntityManager em = JPAUtil.em();
+        try {
+            Number aplicadas = (Number) em.createNativeQuery("select count(*) from esquema_version").getSingleResult();
+            Number turnos = (Number) em.createNativeQuery(
+                "select count(*) from turno_mantenimiento where tarea = 'estados'").getSingleResult();
+            assertEquals(4, aplicadas.intValue());
+            assertEquals(1, turnos.intValue());
+        } finally {
+            em.close();
+        }
+    }
+
+    private static void recrearEsquema(boolean soloBorrar) throws SQLException {
+        try (Connection cn = DriverManager.getConnection(URL, USUARIO, CLAVE);
+             Statement st = cn.createStatement()) {
+            st.execute("drop schema if exists " + ESQUEMA + " cascade");
+            if (!soloBorrar) st.execute("create schema " + ESQUEMA);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.app_eventos.repository;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.app_eventos.model.Evento;
+import com.app_eventos.model.Persona;
+import com.app_eventos.model.Taller;
+import com.app_eventos.model.enums.EstadoEvento;
+import com.app_eventos.model.enums.Modalidad;
+import com.app_eventos.model.enums.TipoRol;
+import com.app_eventos.services.Servicio;
+import com.app_eventos.utils.JPAUtil;
+
+/**
+ * Inscripciones simultáneas sobre un mismo taller: nunca se supera el cupo.
+ */
+public class RepositorioCupoTest {
+
+    private static final int CUPO = 5;
+    private static final int INTENTOS = 30;
+
+    @BeforeClass
+    public static void baseEnMemoria() {
+        System.setProperty("jakarta.persistence.jdbc.url", "jdbc:h2:mem:cupo;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        System.setProperty("jakarta.persistence.jdbc.driver", "org.h2.Driver");
+        System.setProperty("jakarta.persistence.jdbc.user", "sa");
+        System.setProperty("jakarta.persistence.jdbc.password", "");
+        System.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        System.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+        System.setProperty("hibernate.show_sql", "false");
+    }
+
+    @AfterClass
+    public static void cerrar() {
+        JPAUtil.close();
+    }
+
+    @Test
+    public void inscripcionesConcurrentesRespetanElCupo() throws Exception {
+        Servicio servicio = Servicio.getInstance();
+
+        Persona organizador = new Persona("Ana", "Pérez", "10000001", "1000001", null);
+        Persona instructor = new Persona("Luis", "Díaz", "10000002", "1000002", null);
+        servicio.guardarPersona(organizador);
+        servicio.guardarPersona(instructor);
+
+        List<Persona> interesados = new ArrayList<>();
+        for (int i = 0; i < INTENTOS; i++) {
+            Persona p = new Persona("Persona", "N" + i, String.valueOf(20000000 + i), String.valueOf(2000000 + i), null);
+            servicio.guardarPersona(p);
+            interesados.add(p);
+        }
+
+        LocalDate dia = LocalDate.now().plusDays(7);
+        servicio.crearTaller("Taller concurrente", dia, LocalTime.of(10, 0), dia, LocalTime.of(12, 0),
+                             EstadoEvento.PLANIFICACIÓN, CUPO, Modalidad.PRESENCIAL);
+        Taller taller = (Taller) evento("Taller concurrente");
+        servicio.asignarRol(taller, organizador, TipoRol.ORGANIZADOR);
+        servicio.asignarRol(taller, instructor, TipoRol.INSTRUCTOR);
+        taller = (Taller) evento("Taller concurrente");
+        servicio.actualizarTaller(taller, "Taller concurrente", dia, LocalTime.of(10, 0), dia, LocalTime.of(12, 0),
+                                  EstadoEvento.CONFIRMADO, CUPO, Modalidad.PRESENCIAL);
+        Evento evento = evento("Taller concurrente");
+
+        // Todos los hilos arrancan juntos para forzar la competencia por el último lugar
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> resultados = new ArrayList<>();
+        for (Persona p : interesados) {
+            resultados.add(pool.submit(() -> {
+                largada.await();
+                try {
+                    servicio.inscribirParticipante(evento.getIdEvento(), p);
+                    return true;
+                } catch (IllegalStateException ex) {
+                    return false;
+                }
+            }));
+        }
+        largada.countDown();
+
+        int exitos = 0;
+        for (Future<Boolean> r : resultados) if (r.get()) exitos++;
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+
+        assertEquals(CUPO, exitos);
+        assertEquals(CUPO, servicio.obtenerParticipantes(evento.getIdEvento()).size());
+        assertEquals(CUPO, evento("Taller concurrente").getInscriptos());
+    }
+
+    // Guardar una copia cargada antes de una inscripción no pisa el contador ni choca con @Version
+    @Test
+    public void edicionConCopiaViejaConservaInscriptos() {
+        Servicio servicio = Servicio.getInstance();
+
+        Persona organizador = new Persona("Eva", "Gómez", "30000001", "3000001", null);
+        Persona instructor = new Persona("Raúl", "Sosa", "30000002", "3000002", null);
+        Persona alumno = new Persona("Iris", "Paz", "30000003", "3000003", null);
+        servicio.guardarPersona(organizador);
+        servicio.guardarPersona(instructor);
+        servicio.guardarPersona(alumno);
+
+        LocalDate dia = LocalDate.now().plusDays(9);
+        servicio.crearTaller("Taller editado", dia, LocalTime.of(10, 0), dia, LocalTime.of(12, 0),
+                             EstadoEvento.PLANIFICACIÓN, CUPO, Modalidad.PRESENCIAL);
+        servicio.asignarRol(evento("Taller editado"), organizador, TipoRol.ORGANIZADOR);
+        servicio.asignarRol(evento("Taller editado"), instructor, TipoRol.INSTRUCTOR);
+        servicio.actualizarTaller((Taller) evento("Taller editado"), "Taller editado", dia, LocalTime.of(10, 0),
+                                  dia, LocalTime.of(12, 0), EstadoEvento.CONFIRMADO, CUPO, Modalidad.PRESENCIAL);
+
+        // Formulario de edición abierto con inscriptos = 0
+        Taller enEdicion = (Taller) evento("Taller editado");
+        servicio.inscribirParticipante(enEdicion.getIdEvento(), alumno);
+        servicio.actualizarTaller(enEdicion, "Taller editado (aula 2)", dia, LocalTime.of(10, 0),
+                                  dia, LocalTime.of(12, 0), EstadoEvento.CONFIRMADO, CUPO, Modalidad.PRESENCIAL);
+
+        assertEquals(1, evento("Taller editado (aula 2)").getInscriptos());
+    }
+
+    private static Evento evento(String nombre) {
+        return Servicio.getInstance().listarEventos().stream()
+                .filter(e -> e.getNombre().equals(nombre))
+                .findFirst()
+                .orElseThrow();
+    }
+}
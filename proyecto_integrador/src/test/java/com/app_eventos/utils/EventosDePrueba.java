@@ -0,0 +1,51 @@
+package com.app_eventos.utils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.app_eventos.model.CicloCine;
+import com.app_eventos.model.Concierto;
+import com.app_eventos.model.Evento;
+import com.app_eventos.model.Exposicion;
+import com.app_eventos.model.Feria;
+import com.app_eventos.model.Taller;
+
+/**
+ * Eventos al azar para las pruebas del calendario (IndiceCalendario, GrillaCalendario), sin base de datos.
+ */
+final class EventosDePrueba {
+
+    private EventosDePrueba() {}
+
+    // Primer mes de las pruebas: a futuro, porque setFechas no acepta inicios pasados
+    static YearMonth primerMes() {
+        return YearMonth.now().plusMonths(2);
+    }
+
+    // Eventos de los cinco tipos, de 1 a maxDias días, que empiezan entre `antes` días previos al mes
+    // y `despues` días posteriores a su fin (así cruzan los bordes). Ids 0..cantidad-1.
+    static List<Evento> alAzar(Random azar, int cantidad, YearMonth mes, int antes, int despues, int maxDias) {
+        List<Evento> out = new ArrayList<>();
+        LocalDate base = mes.atDay(1).minusDays(antes);
+        int rango = antes + mes.lengthOfMonth() + despues;
+        for (int i = 0; i < cantidad; i++) {
+            Evento e = switch (azar.nextInt(5)) {
+                case 0 -> new Feria();
+                case 1 -> new Concierto();
+                case 2 -> new Taller();
+                case 3 -> new Exposicion();
+                default -> new CicloCine();
+            };
+            LocalDate inicio = base.plusDays(azar.nextInt(rango));
+            e.setNombre("Evento " + i);
+            e.setFechas(inicio, LocalTime.of(8 + azar.nextInt(10), 0), inicio.plusDays(azar.nextInt(maxDias)), LocalTime.of(20, 0));
+            e.setIdEvento((long) i);
+            out.add(e);
+        }
+        return out;
+    }
+}
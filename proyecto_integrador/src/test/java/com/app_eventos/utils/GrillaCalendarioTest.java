@@ -0,0 +1,89 @@
+package com.app_eventos.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.app_eventos.model.Evento;
+import com.app_eventos.model.enums.TipoEvento;
+
+/**
+ * Contenido de la grilla del calendario: mismas 42 celdas con un mes lleno o vacío, cada día del mes
+ * en su columna y nada de un redibujo anterior al reutilizarla.
+ */
+public class GrillaCalendarioTest {
+
+    private final YearMonth mes = EventosDePrueba.primerMes();
+
+    @Test
+    public void cadaDiaDelMesEnSuCelda() {
+        GrillaCalendario grilla = new GrillaCalendario();
+        for (int m = 0; m < 12; m++) {
+            YearMonth ym = mes.plusMonths(m);
+            grilla.llenar(ym, new IndiceCalendario(ym, List.of()), IndiceCalendario.TODOS);
+
+            int primera = ym.atDay(1).getDayOfWeek() == DayOfWeek.SUNDAY ? 0 : ym.atDay(1).getDayOfWeek().getValue();
+            for (int i = 0; i < GrillaCalendario.CELDAS; i++) {
+                int esperado = (i >= primera && i < primera + ym.lengthOfMonth()) ? i - primera + 1 : 0;
+                assertEquals(ym + " celda " + i, esperado, grilla.dia(i));
+            }
+        }
+    }
+
+    @Test
+    public void mesLlenoYMesVacioUsanLasMismasCeldas() {
+        GrillaCalendario grilla = new GrillaCalendario();
+        IndiceCalendario lleno = new IndiceCalendario(mes, eventos(3_000));
+        IndiceCalendario vacio = new IndiceCalendario(mes, List.of());
+
+        grilla.llenar(mes, lleno, IndiceCalendario.TODOS);
+        int[] diasLleno = dias(grilla);
+        for (int i = 0; i < GrillaCalendario.CELDAS; i++) {
+            for (TipoEvento tipo : TipoEvento.values()) {
+                int esperado = grilla.dia(i) == 0 ? 0 : lleno.cantidad(mes.atDay(grilla.dia(i)), tipo);
+                assertEquals(esperado, grilla.cantidad(i, tipo));
+            }
+        }
+
+        // Misma instancia: los días no cambian y no queda ninguna cantidad del redibujo anterior
+        grilla.llenar(mes, vacio, IndiceCalendario.TODOS);
+        for (int i = 0; i < GrillaCalendario.CELDAS; i++) {
+            assertEquals(diasLleno[i], grilla.dia(i));
+            for (TipoEvento tipo : TipoEvento.values()) assertEquals(0, grilla.cantidad(i, tipo));
+        }
+    }
+
+    @Test
+    public void elFiltroDejaEnCeroLosTiposOcultos() {
+        GrillaCalendario grilla = new GrillaCalendario();
+        IndiceCalendario lleno = new IndiceCalendario(mes, eventos(500));
+        int soloFerias = IndiceCalendario.bit(TipoEvento.FERIA);
+
+        grilla.llenar(mes, lleno, IndiceCalendario.TODOS);
+        grilla.llenar(mes, lleno, soloFerias);
+        for (int i = 0; i < GrillaCalendario.CELDAS; i++) {
+            if (grilla.dia(i) == 0) continue;
+            LocalDate dia = mes.atDay(grilla.dia(i));
+            assertEquals(lleno.cantidad(dia, TipoEvento.FERIA), grilla.cantidad(i, TipoEvento.FERIA));
+            assertEquals(0, grilla.cantidad(i, TipoEvento.CONCIERTO));
+            assertEquals(0, grilla.cantidad(i, TipoEvento.TALLER));
+        }
+    }
+
+    private static int[] dias(GrillaCalendario grilla) {
+        int[] out = new int[GrillaCalendario.CELDAS];
+        for (int i = 0; i < out.length; i++) out[i] = grilla.dia(i);
+        return out;
+    }
+
+    // Eventos de 1 a 4 días repartidos por el mes y sus bordes
+    private List<Evento> eventos(int cantidad) {
+        return EventosDePrueba.alAzar(new Random(25), cantidad, mes, 3, 0, 4);
+    }
+}
@@ -0,0 +1,100 @@
+package com.app_eventos.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import com.app_eventos.model.Evento;
+import com.app_eventos.model.enums.TipoEvento;
+
+/**
+ * IndiceCalendario contra una recorrida completa de los eventos, con eventos al azar de varios días
+ * que cruzan el principio y el fin de cada mes (meses de 28 a 31 días).
+ */
+public class IndiceCalendarioTest {
+
+    private static final int EVENTOS_POR_MES = 300;
+
+    private final Random azar = new Random(24);
+
+    @Test
+    public void coincideConRecorrerTodosLosEventos() {
+        YearMonth primero = EventosDePrueba.primerMes();
+        for (int m = 0; m < 12; m++) {
+            YearMonth mes = primero.plusMonths(m);
+            List<Evento> eventos = eventosAlAzar(mes);
+            IndiceCalendario indice = new IndiceCalendario(mes, eventos);
+
+            for (int mascara : mascaras()) {
+                for (LocalDate dia = mes.atDay(1); !dia.isAfter(mes.atEndOfMonth()); dia = dia.plusDays(1)) {
+                    LocalDate d = dia;
+                    List<Evento> delDia = filtrar(eventos, mascara, e -> cubre(e, d, d));
+                    assertEquals(mes + " " + dia, delDia, indice.delDia(dia, mascara));
+                    assertEquals(!delDia.isEmpty(), indice.hayEventos(dia, mascara));
+
+                    // Rangos que pueden empezar antes del mes y terminar después: se recortan al mes
+                    LocalDate desde = dia.minusDays(azar.nextInt(3));
+                    LocalDate hasta = dia.plusDays(azar.nextInt(8));
+                    LocalDate a = desde.isBefore(mes.atDay(1)) ? mes.atDay(1) : desde;
+                    LocalDate b = hasta.isAfter(mes.atEndOfMonth()) ? mes.atEndOfMonth() : hasta;
+                    assertEquals(mes + " " + desde + ".." + hasta,
+                                 filtrar(eventos, mascara, e -> cubre(e, a, b)), indice.entre(desde, hasta, mascara));
+                }
+            }
+
+            for (LocalDate dia = mes.atDay(1); !dia.isAfter(mes.atEndOfMonth()); dia = dia.plusDays(1)) {
+                for (TipoEvento tipo : TipoEvento.values()) {
+                    LocalDate d = dia;
+                    long esperados = eventos.stream().filter(e -> e.getTipoEvento() == tipo && cubre(e, d, d)).count();
+                    assertEquals(mes + " " + dia + " " + tipo, esperados, indice.cantidad(dia, tipo));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fueraDelMesNoHayEventos() {
+        YearMonth mes = EventosDePrueba.primerMes();
+        IndiceCalendario indice = new IndiceCalendario(mes, eventosAlAzar(mes));
+        for (LocalDate dia : List.of(mes.atDay(1).minusDays(1), mes.atEndOfMonth().plusDays(1))) {
+            assertFalse(indice.hayEventos(dia, IndiceCalendario.TODOS));
+            assertTrue(indice.delDia(dia, IndiceCalendario.TODOS).isEmpty());
+            assertEquals(0, indice.cantidad(dia, TipoEvento.FERIA));
+        }
+        assertTrue(indice.entre(mes.atEndOfMonth().plusDays(1), mes.atEndOfMonth().plusDays(9), IndiceCalendario.TODOS).isEmpty());
+    }
+
+    // Eventos de 1 a 7 días que empiezan entre 6 días antes del mes y 3 días después de su fin
+    private List<Evento> eventosAlAzar(YearMonth mes) {
+        return EventosDePrueba.alAzar(azar, EVENTOS_POR_MES, mes, 6, 3, 7);
+    }
+
+    private static List<Integer> mascaras() {
+        return List.of(IndiceCalendario.TODOS,
+                       IndiceCalendario.bit(TipoEvento.FERIA),
+                       IndiceCalendario.mascara(List.of(TipoEvento.CONCIERTO, TipoEvento.TALLER, TipoEvento.CICLO_CINE)));
+    }
+
+    // Mismo orden que el índice: inicio y después id
+    private static List<Evento> filtrar(List<Evento> eventos, int mascara, Predicate<Evento> condicion) {
+        return eventos.stream()
+                .filter(e -> (IndiceCalendario.bit(e.getTipoEvento()) & mascara) != 0)
+                .filter(condicion)
+                .sorted(Comparator.comparing(Evento::getFechaInicio).thenComparing(Evento::getIdEvento))
+                .toList();
+    }
+
+    // El evento ocupa algún día de [desde, hasta]
+    private static boolean cubre(Evento e, LocalDate desde, LocalDate hasta) {
+        return !e.getFechaInicio().toLocalDate().isAfter(hasta) && !e.getFechaFin().toLocalDate().isBefore(desde);
+    }
+}